@@ -1,16 +1,24 @@
 package io.metersphere.jmeter.functions;
 
 import io.metersphere.jmeter.mock.Mock;
+import io.metersphere.jmeter.mock.exception.MockException;
+import io.metersphere.jmeter.mock.expression.MockExpression;
+import io.metersphere.jmeter.mock.util.IncrementSequence;
+import io.metersphere.jmeter.mock.util.RandomSource;
+import io.metersphere.jmeter.mock.util.UniqueUtils;
 import org.apache.jmeter.engine.util.CompoundVariable;
 import org.apache.jmeter.functions.AbstractFunction;
 import org.apache.jmeter.functions.InvalidVariableException;
 import org.apache.jmeter.samplers.SampleResult;
 import org.apache.jmeter.samplers.Sampler;
+import org.apache.jmeter.threads.JMeterContextService;
 import org.apache.jmeter.threads.JMeterVariables;
+import org.apache.jmeter.util.JMeterUtils;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class MockFunction extends AbstractFunction {
@@ -20,6 +28,21 @@ public class MockFunction extends AbstractFunction {
 
     private CompoundVariable varName;
 
+    /**
+     * 参数中不包含JMeter变量或函数时，在加载测试计划时编译好的表达式
+     */
+    private MockExpression staticExpression;
+
+    /**
+     * 静态参数去除首尾空白后的值
+     */
+    private String staticKey;
+
+    /**
+     * 最近一次重置不重复取值与自增序列时的测试开始时间
+     */
+    private static volatile long resetTestStart = Long.MIN_VALUE;
+
     static {
         desc.add("String to calculate Mock");
     }
@@ -29,12 +52,27 @@ public class MockFunction extends AbstractFunction {
         String value = "";
         if (varName != null) {
             JMeterVariables vars = getVariables();
-            final String varTrim = varName.execute().trim();
-            if (vars != null && !varTrim.isEmpty()) {
-                logger.info("处理MOCK函数：" + varTrim);
-                value = Mock.calculate(varTrim).toString();
-                vars.put(varTrim, value);
+            if (vars == null) {
+                return value;
+            }
+            if (RandomSource.seed() != null && JMeterContextService.getTestStartTime() != resetTestStart) {
+                resetSeededState(false);
             }
+            String key = staticKey;
+            MockExpression expression = staticExpression;
+            if (expression == null) {
+                //动态参数，每次取值后从表达式缓存中获取
+                key = varName.execute().trim();
+                if (key.isEmpty()) {
+                    return value;
+                }
+                expression = Mock.compile(key);
+            }
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("处理MOCK函数：" + key);
+            }
+            value = expression.calculate().toString();
+            vars.put(key, value);
         }
         return value;
     }
@@ -42,9 +80,59 @@ public class MockFunction extends AbstractFunction {
     @Override
     public void setParameters(Collection<CompoundVariable> parameters) throws InvalidVariableException {
         checkParameterCount(parameters, 1, 1);
+        configureRandom();
         //将值存入变量中
         Object[] values = parameters.toArray();
         varName = (CompoundVariable) values[0];
+        staticExpression = null;
+        staticKey = null;
+        //参数中没有嵌套的变量或函数时，值不会变化，直接编译一次
+        if (!varName.isDynamic()) {
+            String key = varName.execute().trim();
+            if (!key.isEmpty()) {
+                staticKey = key;
+                staticExpression = Mock.compile(key);
+            }
+        }
+    }
+
+    /**
+     * 按JMeter属性切换随机数算法、种子与截止日期，未设置时使用系统属性或默认值。<br>
+     * 指定了种子时，配置变化或开始新的测试时重置不重复取值与自增序列，见{@link #resetSeededState(boolean)}
+     */
+    private static void configureRandom() {
+        String algorithm = JMeterUtils.getPropDefault(RandomSource.ALGORITHM_PROPERTY,
+                System.getProperty(RandomSource.ALGORITHM_PROPERTY, RandomSource.DEFAULT_ALGORITHM));
+        String seedValue = JMeterUtils.getPropDefault(RandomSource.SEED_PROPERTY,
+                System.getProperty(RandomSource.SEED_PROPERTY, ""));
+        String epochValue = JMeterUtils.getPropDefault(RandomSource.EPOCH_PROPERTY,
+                System.getProperty(RandomSource.EPOCH_PROPERTY, ""));
+        try {
+            Long seed = RandomSource.parseSeed(seedValue);
+            boolean changed = RandomSource.configure(algorithm, seed, RandomSource.parseEpoch(epochValue));
+            if (seed != null) {
+                resetSeededState(changed);
+            }
+        } catch (MockException e) {
+            logger.warning(e.getMessage() + "，继续使用" + RandomSource.algorithm());
+        }
+    }
+
+    /**
+     * 可复现模式下，每次测试开始时（同一个JVM中重复执行测试计划，例如JMeter GUI）重新开始不重复取值与自增序列，
+     * 不重复取值的密钥与种子相同，使每次执行的结果相同
+     *
+     * @param force 配置发生了变化，不论是否为新的测试都重置
+     */
+    private static synchronized void resetSeededState(boolean force) {
+        Long seed = RandomSource.seed();
+        long testStart = JMeterContextService.getTestStartTime();
+        if (seed == null || (!force && testStart == resetTestStart)) {
+            return;
+        }
+        UniqueUtils.reset(seed);
+        IncrementSequence.clear();
+        resetTestStart = testStart;
     }
 
     @Override
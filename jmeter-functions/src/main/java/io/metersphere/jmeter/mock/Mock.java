@@ -4,23 +4,27 @@ package io.metersphere.jmeter.mock;
 import io.metersphere.jmeter.functions.MockFunction;
 import io.metersphere.jmeter.mock.bean.*;
 import io.metersphere.jmeter.mock.exception.MockException;
+import io.metersphere.jmeter.mock.expression.MockExpression;
+import io.metersphere.jmeter.mock.expression.MockExpressionCache;
 import io.metersphere.jmeter.mock.factory.MockMapperFactory;
 import io.metersphere.jmeter.mock.factory.MockObjectFactory;
-import io.metersphere.jmeter.mock.function.FunctionApply;
+import io.metersphere.jmeter.mock.field.FieldValueGetter;
+import io.metersphere.jmeter.mock.function.FunctionPipeline;
 import io.metersphere.jmeter.mock.parser.ParameterParser;
-import io.metersphere.jmeter.mock.util.MockUtils;
+import io.metersphere.jmeter.mock.registry.MockMethodRegistry;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.RegExUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * javaBean假数据生成工具
@@ -33,37 +37,9 @@ public class Mock {
         MOCK_OBJECT = new ConcurrentHashMap<>(4);
         MOCK_MAP = new ConcurrentHashMap<>(4);
 
-        //创建map，这里的map理论上不需要线程同步
-        Map<String, Method> mockUtilMethods;
-
-        //加载这些方法，防止每次都使用反射去调用方法。
+        //加载指令方法，防止每次都使用反射去查找方法。
         //直接调用的话无法掌控参数，所以必须使用反射的形式进行调用
-        Class<MockUtils> mockUtilClass = MockUtils.class;
-        //只获取公共方法
-        Method[] methods = mockUtilClass.getMethods();
-        /*
-            过滤Object中的方法、
-            将MockUtil中的全部方法名格式化 格式：方法名(参数类型class地址，参数类型class地址.....)、
-            转化为<方法名：方法>的map集合
-         */
-        mockUtilMethods =
-                Arrays.stream(methods)
-                        //过滤掉Object中继承过来的方法
-                        .filter(m -> Arrays.stream(Object.class.getMethods()).noneMatch(om -> om.equals(m)))
-                        //格式化方法名，格式：方法名(参数类型class地址，参数类型class地址.....)
-                        .flatMap(m -> {
-                            Map<String, Method> methodMap = new HashMap<>();
-                            //格式化方法名，并作为key
-                            String key = m.getName() + "("
-                                    + Arrays.stream(m.getParameterTypes())
-                                    .map(Class::getName)
-                                    .collect(Collectors.joining(",")) +
-                                    ")";
-                            methodMap.put(key, m);
-                            return methodMap.entrySet().stream();
-                        }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        //保存MockUtil中的全部方法
-        MOCK_METHOD = mockUtilMethods;
+        METHOD_REGISTRY = MockMethodRegistry.load();
     }
 
     /**
@@ -79,9 +55,14 @@ public class Mock {
 
 
     /**
-     * MockUtil中的全部方法
+     * 全部的指令方法，包括MockUtil中的方法与通过SPI注册的自定义方法
      */
-    private static final Map<String, Method> MOCK_METHOD;
+    private static final MockMethodRegistry METHOD_REGISTRY;
+
+    /**
+     * 已编译的Mock表达式缓存
+     */
+    private static final MockExpressionCache EXPRESSION_CACHE = new MockExpressionCache();
 
 
     /**
@@ -182,7 +163,25 @@ public class Mock {
      * @return 全部已被加载的映射方法
      */
     public static Map<String, Method> getMockMethods() {
-        return new HashMap<>(MOCK_METHOD);
+        return new HashMap<>(METHOD_REGISTRY.getSignatures());
+    }
+
+    /**
+     * 根据方法名与参数数量获取Mock方法
+     *
+     * @param name  方法名
+     * @param arity 参数数量
+     * @return 方法，不存在时返回null
+     */
+    public static Method getMockMethod(String name, int arity) {
+        return METHOD_REGISTRY.get(name, arity);
+    }
+
+    /**
+     * 获取指令方法注册表
+     */
+    public static MockMethodRegistry getMethodRegistry() {
+        return METHOD_REGISTRY;
     }
 
 
@@ -190,7 +189,7 @@ public class Mock {
      * 根据过滤条件寻找指定的string-method
      */
     public static Map.Entry<String, Method> getMockMethodByFilter(Predicate<? super Map.Entry<String, Method>> predicate) {
-        for (Map.Entry<String, Method> entry : MOCK_METHOD.entrySet()) {
+        for (Map.Entry<String, Method> entry : METHOD_REGISTRY.getSignatures().entrySet()) {
             if (predicate.test(entry)) {
                 return entry;
             }
@@ -206,11 +205,9 @@ public class Mock {
         }
 
         // 定义前缀和需要裁剪的长度
+        // 其他方法的参数（例如负数、日期）可以直接被指令解析器识别，只有正则内容需要原样保留
         String[][] patterns = {
-                {"@regexp(", ")", "8"},
-                {"@idCard(", ")", "8"},
-                {"@integer(", ")", "9"},
-                {"@range(", ")", "7"}
+                {"@regexp(", ")", "8"}
         };
 
         for (String[] pattern : patterns) {
@@ -224,40 +221,98 @@ public class Mock {
 
     private static String transformInput(String input, String prefix, int trimLength) {
         String modifiedInput = input;
-        String content;
-        String rest = "";
-
-        // 检查是否存在"|", 并据此分割内容和后续部分
-        if (input.contains("|")) {
-            int splitIndex = input.indexOf("|");
-            content = input.substring(prefix.length(), splitIndex - 1);
-            rest = input.substring(splitIndex); // 包括"|"
-        } else {
-            content = input.substring(trimLength, input.length() - 1);
+        // 管道函数已经在此之前被拆分，这里只有指令部分
+        String content = input.substring(trimLength, input.length() - 1);
+
+        // 已经使用引号包裹的内容不再处理
+        if (content.length() > 1 && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+                && content.charAt(content.length() - 1) == content.charAt(0)) {
+            return input;
         }
 
         // 将中间的内容包裹在单引号中
-        modifiedInput = prefix + "'" + content + "')" + rest;
+        modifiedInput = prefix + "'" + content + "')";
 
         return modifiedInput;
     }
 
+    /**
+     * 按照'|'拆分指令与管道函数，括号内的'|'（例如正则中的或语法）不作为分隔符
+     *
+     * @param input 表达式
+     * @return [指令, 管道函数...]
+     */
+    private static String[] splitPipes(String input) {
+        List<String> parts = new ArrayList<>(2);
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth = Math.max(depth - 1, 0);
+            } else if ((c == '\'' || c == '"') && depth > 0) {
+                //只在括号内识别引号，避免普通文本中的单引号影响拆分
+                quote = c;
+            } else if (c == '|' && depth == 0) {
+                parts.add(input.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(input.substring(start));
+        return parts.toArray(new String[0]);
+    }
 
     public static Object calculate(Object itemValue) {
         if (ObjectUtils.isEmpty(itemValue)) {
             return itemValue;
         }
+        return compile(itemValue.toString()).calculate();
+    }
+
+    /**
+     * 获取编译后的Mock表达式，相同的表达式只会被解析一次
+     *
+     * @param expression 原始表达式，例如：@email|md5
+     */
+    public static MockExpression compile(String expression) {
+        return EXPRESSION_CACHE.get(expression, Mock::compileExpression);
+    }
+
+    /**
+     * 获取表达式缓存，可用于查看命中情况
+     */
+    public static MockExpressionCache getExpressionCache() {
+        return EXPRESSION_CACHE;
+    }
+
+    /**
+     * 解析表达式，得到指令的字段值获取器与管道函数
+     */
+    private static MockExpression compileExpression(String expression) {
+        String instruction;
+        FunctionPipeline pipeline;
         try {
-            itemValue = addQuotesToRegexpContent(itemValue.toString());
-            String[] func = itemValue.toString().split("\\|");
-            Object value = ParameterParser.parser(func[0].trim(), func[0].trim());
-            if (func.length == 1) {
-                return value;
-            }
-            return FunctionApply.apply(value.toString(), func[1].trim());
+            String[] func = splitPipes(expression);
+            instruction = addQuotesToRegexpContent(func[0].trim());
+            pipeline = FunctionPipeline.compile(Arrays.copyOfRange(func, 1, func.length));
         } catch (Exception e) {
-            return itemValue;
+            return MockExpression.constant(expression);
+        }
+        FieldValueGetter<?> valueGetter;
+        try {
+            valueGetter = ParameterParser.parserInstruction(instruction);
+        } catch (Exception e) {
+            //解析失败，原样返回指令
+            valueGetter = () -> instruction;
         }
+        return new MockExpression(expression, instruction, valueGetter, pipeline);
     }
 
     public static String buildFunctionCallString(String input) {
@@ -1,7 +1,9 @@
 package io.metersphere.jmeter.mock.bean;
 
 import io.metersphere.jmeter.mock.exception.MockException;
+import io.metersphere.jmeter.mock.util.MethodUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Arrays;
 
 /**
@@ -19,32 +21,62 @@ public class MockBean<T> {
      */
     protected MockField[] fields;
 
+    /**
+     * 构造时编译好的无参构造方法句柄，类型为 ()Object，没有可用的无参构造方法时为null
+     */
+    private final MethodHandle constructor;
+
     /**
      * 获取对象一个对象
      *
-     * @return
+     * @return 赋值后的实例，无法创建实例时返回null
      */
     public T getObject() {
         //先创建一个实例
-        T instance;
-        try {
-            instance = getObjectClass().newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+        T instance = newInstance();
+        if (instance == null) {
             return null;
         }
-        for (MockField field : fields) {
-            try {
-                field.setValue(instance);
-            } catch (Exception e) {
-                // ignored ?
-                // no
-                throw new MockException(e);
-            }
+        for (MockField<?> field : fields) {
+            setValue(field, instance);
         }
         //返回这个实例
         return instance;
     }
 
+    /**
+     * 使用无参构造方法创建一个实例
+     *
+     * @return 实例，没有可用的无参构造方法时返回null
+     * @throws MockException 构造方法抛出了异常
+     */
+    @SuppressWarnings("unchecked")
+    protected T newInstance() {
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (MockException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MockException(e);
+        }
+    }
+
+    /**
+     * 为实例的一个字段赋值
+     */
+    protected static void setValue(MockField<?> field, Object instance) {
+        try {
+            field.setValue(instance);
+        } catch (MockException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MockException(e);
+        }
+    }
+
     /**
      * 获取假字段集
      */
@@ -77,5 +109,6 @@ public class MockBean<T> {
     public MockBean(Class<T> objectClass, MockField[] fields) {
         this.objectClass = objectClass;
         this.fields = fields;
+        this.constructor = MethodUtils.constructor(objectClass);
     }
 }
@@ -1,8 +1,11 @@
 package io.metersphere.jmeter.mock.bean;
 
+import io.metersphere.jmeter.mock.exception.MockException;
 import io.metersphere.jmeter.mock.field.FieldValueGetter;
 import io.metersphere.jmeter.mock.util.FieldUtils;
+import io.metersphere.jmeter.mock.util.MethodUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -42,16 +45,36 @@ public class MockField<T> {
 
     private final Method setterMethod;
 
+    /**
+     * 构造时编译好的赋值句柄，类型为 (Object, Object)void，优先使用setter方法
+     */
+    private final MethodHandle setterHandle;
+
+    /**
+     * 赋值时需要的参数类型，基本数据类型为其包装类型
+     */
+    private final Class<?> valueType;
+
 
     /**
      * 为传入的对象的对应的参数赋值
-     * 通过FieldUtils工具类使用setter方法赋值
+     * 使用构造时编译好的赋值句柄，值的类型不符时先进行转化；没有句柄时通过FieldUtils工具类使用setter方法赋值
      *
-     * @param
+     * @param bean 需要赋值的对象
      * @see FieldUtils
      */
     public void setValue(Object bean) throws Exception {
-        FieldUtils.objectSetter(bean, fieldName, getValue());
+        if (setterHandle == null) {
+            FieldUtils.objectSetter(bean, fieldName, getValue());
+            return;
+        }
+        try {
+            setterHandle.invokeExact(bean, MethodUtils.convertArg(getValue(), valueType));
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MockException(e);
+        }
     }
 
     /**
@@ -111,10 +134,14 @@ public class MockField<T> {
             this.field = FieldUtils.getField(objType, fieldName);
             this.field.setAccessible(true);
             this.setterMethod = FieldUtils.getFieldSetter(objType, this.field);
+            this.setterHandle = MethodUtils.setter(this.field, this.setterMethod);
+            this.valueType = MethodUtils.wrap(this.field.getType());
         } else {
             // 当类型为Map类型的时候，objType为null，因此field为null。
             this.field = null;
             this.setterMethod = null;
+            this.setterHandle = null;
+            this.valueType = null;
         }
     }
 
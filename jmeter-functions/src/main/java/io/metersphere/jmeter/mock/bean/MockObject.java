@@ -1,13 +1,18 @@
 package io.metersphere.jmeter.mock.bean;
 
 import io.metersphere.jmeter.mock.util.CollectorUtils;
+import io.metersphere.jmeter.mock.util.MockPublisher;
+import io.metersphere.jmeter.mock.util.MockSpliterator;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface MockObject<T> {
 
@@ -32,20 +37,20 @@ public interface MockObject<T> {
 
 
     /**
-     * 获取一个无限流
+     * 获取一个无限流，流中的值没有顺序要求
      */
     default Stream<T> getStream() {
-        return Stream.iterate(getOne(), i -> getOne());
+        return Stream.generate(this::getOne);
     }
 
     /**
-     * 获取一个指定长度的流，等同于 <code>getStream().limit(limit)</code>
+     * 获取一个指定长度的流，长度确定，可以直接按数量拆分
      *
      * @param limit
      * @return
      */
     default Stream<T> getStream(int limit) {
-        return getStream().limit(limit);
+        return StreamSupport.stream(new MockSpliterator<>(this::getOne, limit), false);
     }
 
     /**
@@ -56,10 +61,30 @@ public interface MockObject<T> {
     }
 
     /**
-     * 获取一个并行流
+     * 获取一个指定长度的并行流，按数量均匀拆分到各个线程，见{@link MockSpliterator}
      */
     default Stream<T> getParallelStream(int limit) {
-        return getParallelStream().limit(limit);
+        return StreamSupport.stream(new MockSpliterator<>(this::getOne, limit), true);
+    }
+
+    /**
+     * 获取一个按需获取的发布者，订阅者请求多少就获取多少，使用公共线程池获取
+     *
+     * @param num 获取数量，为{@link MockPublisher#UNBOUNDED}时不会结束
+     */
+    default Flow.Publisher<T> getPublisher(long num) {
+        return new MockPublisher<>(this::getOne, num);
+    }
+
+    /**
+     * 获取一个按需获取的发布者，在指定的线程池中获取
+     *
+     * @param num       获取数量，为{@link MockPublisher#UNBOUNDED}时不会结束
+     * @param executor  执行获取的线程池
+     * @param batchSize 每次执行最多连续发送的数量
+     */
+    default Flow.Publisher<T> getPublisher(long num, Executor executor, int batchSize) {
+        return new MockPublisher<>(this::getOne, num, executor, batchSize);
     }
 
     /**
@@ -270,45 +295,46 @@ public interface MockObject<T> {
 
 
     /**
-     * 并行collect
+     * 并行collect<br>
+     * 按对象拆分为多个批次并行获取，每个批次内串行，数量较少或获取很快时直接串行，见{@link CollectorUtils#parallelCollector(int, Supplier, Collector)}
      */
     default <R, A> R collectParallel(int num, Collector<? super T, A, R> collector) {
-        return IntStream.range(0, num).parallel().mapToObj(i -> getOne()).collect(collector);
+        return CollectorUtils.parallelCollector(num, this::getOne, collector);
     }
 
     /**
      * 带转化的并行collect
      */
     default <R, A, N> N collectParallel(int num, Function<? super T, ? extends R> mapper, Collector<? super R, A, N> collector) {
-        return IntStream.range(0, num).parallel().mapToObj(i -> mapper.apply(getOne())).collect(collector);
+        return CollectorUtils.parallelCollector(num, this::getOne, mapper, collector);
     }
 
     /**
      * 并行collect
      */
     default <A, K, V> Map<K, V> collectToMapParallel(int num, Collector<? super T, A, Map<K, V>> collector) {
-        return IntStream.range(0, num).parallel().mapToObj(i -> getOne()).collect(collector);
+        return CollectorUtils.parallelCollector(num, this::getOne, collector);
     }
 
     /**
      * 并行collect
      */
     default <A, K, V> Map<K, V> collectToMapParallel(int num, Function<T, K> keyFunction, Function<T, V> valueFunction) {
-        return IntStream.range(0, num).parallel().mapToObj(i -> getOne()).collect(Collectors.toMap(keyFunction, valueFunction));
+        return CollectorUtils.parallelCollector(num, this::getOne, Collectors.toMap(keyFunction, valueFunction));
     }
 
     /**
      * 带转化的并行collect
      */
     default <A, R, K, V> Map<K, V> collectToMapParallel(int num, Function<? super T, ? extends R> mapper, Collector<? super R, A, Map<K, V>> collector) {
-        return IntStream.range(0, num).parallel().mapToObj(i -> mapper.apply(getOne())).collect(collector);
+        return CollectorUtils.parallelCollector(num, this::getOne, mapper, collector);
     }
 
     /**
      * 带转化的并行collect
      */
     default <A, R, K, V> Map<K, V> collectToMapParallel(int num, Function<? super T, ? extends R> mapper, Function<R, K> keyFunction, Function<R, V> valueFunction) {
-        return IntStream.range(0, num).parallel().mapToObj(i -> mapper.apply(getOne())).collect(Collectors.toMap(keyFunction, valueFunction));
+        return CollectorUtils.parallelCollector(num, this::getOne, mapper, Collectors.toMap(keyFunction, valueFunction));
     }
 
 
@@ -1,31 +1,37 @@
 package io.metersphere.jmeter.mock.bean;
 
-import io.metersphere.jmeter.mock.exception.MockException;
-
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
 
+/**
+ * 并行为字段赋值的MockBean<br>
+ * 单个字段的赋值通常只需要几微秒，按字段拆分的开销往往大于收益，因此只有字段较多时才并行；
+ * 批量获取对象时并行发生在对象之间（见{@link MockObject#collectParallel}），此时已经处于并行线程中，字段直接串行赋值。
+ */
 public class ParallelMockBean<T> extends MockBean<T> {
 
+    /**
+     * 字段数量达到此值时才并行赋值
+     */
+    private static final int PARALLEL_FIELD_THRESHOLD = 32;
+
 
     /**
      * 获取对象一个对象
      */
     public T getObject() {
         //先创建一个实例
-        T instance;
-        try {
-            instance = objectClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+        T instance = newInstance();
+        if (instance == null) {
             return null;
         }
-        Arrays.stream(fields).parallel().forEach(field -> {
-            try {
-                field.setValue(instance);
-            } catch (Exception e) {
-                // ignored ?
-                throw new MockException(e);
+        if (fields.length < PARALLEL_FIELD_THRESHOLD || ForkJoinTask.inForkJoinPool()) {
+            for (MockField<?> field : fields) {
+                setValue(field, instance);
             }
-        });
+        } else {
+            Arrays.stream(fields).parallel().forEach(field -> setValue(field, instance));
+        }
         //返回这个实例
         return instance;
     }
@@ -0,0 +1,96 @@
+package io.metersphere.jmeter.mock.expression;
+
+import io.metersphere.jmeter.mock.field.FieldValueGetter;
+import io.metersphere.jmeter.mock.function.FunctionPipeline;
+
+/**
+ * 编译后的Mock表达式。
+ * 保存指令解析得到的字段值获取器与管道函数，创建后不可变，可以在多个线程之间共享，
+ * 每次计算只需要执行生成器本身，不再重复解析表达式。
+ */
+public final class MockExpression {
+
+    /**
+     * 原始表达式，计算出错时作为结果返回
+     */
+    private final String expression;
+
+    /**
+     * 指令部分，即第一个'|'之前预处理后的内容
+     */
+    private final String instruction;
+
+    /**
+     * 指令对应的字段值获取器
+     */
+    private final FieldValueGetter<?> valueGetter;
+
+    /**
+     * 编译后的管道函数，没有时为null
+     */
+    private final FunctionPipeline pipeline;
+
+    /**
+     * 执行表达式，获取一个结果
+     */
+    public Object calculate() {
+        try {
+            Object value;
+            try {
+                value = valueGetter.value();
+            } catch (Exception e) {
+                //生成失败时与原来的解析逻辑一致，返回指令本身
+                value = instruction;
+            }
+            if (pipeline == null) {
+                return value;
+            }
+            return pipeline.apply(value.toString());
+        } catch (Exception e) {
+            return expression;
+        }
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public String getInstruction() {
+        return instruction;
+    }
+
+    public FieldValueGetter<?> getValueGetter() {
+        return valueGetter;
+    }
+
+    public FunctionPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * 创建一个始终返回原值的表达式，用于无法解析的输入
+     */
+    public static MockExpression constant(String value) {
+        return new MockExpression(value, value, () -> value, null);
+    }
+
+    /**
+     * 构造
+     *
+     * @param expression  原始表达式
+     * @param instruction 指令部分
+     * @param valueGetter 指令对应的字段值获取器
+     * @param pipeline    管道函数，可以为null
+     */
+    public MockExpression(String expression, String instruction, FieldValueGetter<?> valueGetter, FunctionPipeline pipeline) {
+        this.expression = expression;
+        this.instruction = instruction;
+        this.valueGetter = valueGetter;
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,159 @@
+package io.metersphere.jmeter.mock.expression;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 有界的Mock表达式缓存，线程安全。
+ * <p>
+ * 命中时只读取一次map并在必要时标记访问位，不加锁；
+ * 超出容量时由一个线程按照时钟（second-chance）策略清理最近未被访问的表达式，
+ * 其余线程不会等待清理结束。
+ */
+public class MockExpressionCache {
+
+    /**
+     * 默认容量
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    /**
+     * 缓存内容
+     */
+    private final ConcurrentHashMap<String, Node> cache;
+
+    /**
+     * 最大容量
+     */
+    private final int maximumSize;
+
+    /**
+     * 是否正在清理
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    /* 统计计数 */
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 获取表达式，如果不存在则使用编译函数编译并缓存
+     *
+     * @param expression 原始表达式
+     * @param compiler   编译函数
+     */
+    public MockExpression get(String expression, Function<String, MockExpression> compiler) {
+        Node node = cache.get(expression);
+        if (node != null) {
+            hitCount.increment();
+            //先读后写，避免热点表达式在多线程下反复写同一个缓存行
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.expression;
+        }
+        missCount.increment();
+        node = cache.computeIfAbsent(expression, key -> new Node(compiler.apply(key)));
+        if (cache.size() > maximumSize) {
+            evict();
+        }
+        return node.expression;
+    }
+
+    /**
+     * 清理缓存直至低于最大容量。
+     * 被访问过的表达式获得一次保留机会，访问位被清除；未被访问过的直接移除。
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            //最多扫描两轮，第二轮时所有访问位均已被清除
+            for (int round = 0; round < 2 && cache.size() > maximumSize; round++) {
+                Iterator<Map.Entry<String, Node>> iterator = cache.entrySet().iterator();
+                while (iterator.hasNext() && cache.size() > maximumSize) {
+                    Node node = iterator.next().getValue();
+                    if (node.referenced) {
+                        node.referenced = false;
+                    } else {
+                        iterator.remove();
+                        evictionCount.increment();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 清空缓存，统计计数不会被重置
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public MockExpressionCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public MockExpressionCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new MockException("缓存容量必须大于0：" + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.cache = new ConcurrentHashMap<>(Math.min(maximumSize, 256));
+    }
+
+    @Override
+    public String toString() {
+        return "MockExpressionCache{size=" + size() +
+                ", hit=" + getHitCount() +
+                ", miss=" + getMissCount() +
+                ", eviction=" + getEvictionCount() +
+                '}';
+    }
+
+    /**
+     * 缓存节点
+     */
+    private static final class Node {
+        private final MockExpression expression;
+        /**
+         * 访问位
+         */
+        private volatile boolean referenced;
+
+        private Node(MockExpression expression) {
+            this.expression = expression;
+        }
+    }
+}
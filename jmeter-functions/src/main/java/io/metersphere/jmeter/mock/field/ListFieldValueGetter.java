@@ -8,7 +8,6 @@ import io.metersphere.jmeter.mock.util.RandomUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
 /**
@@ -198,7 +197,7 @@ public class ListFieldValueGetter implements FieldValueGetter<List> {
     static Supplier<Integer[]> normalIntegerIntervalSupplier(Integer[] intervals1, Integer[] intervals2) {
         Integer[] intervals1New = Arrays.copyOf(intervals1, intervals1.length);
         Integer[] intervals2New = Arrays.copyOf(intervals2, intervals2.length);
-        return () -> ThreadLocalRandom.current().nextBoolean() ? intervals1New : intervals2New;
+        return () -> RandomUtils.getGenerator().nextBoolean() ? intervals1New : intervals2New;
     }
 
 
@@ -0,0 +1,170 @@
+package io.metersphere.jmeter.mock.function;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * AES加密，例如：@string|aes(1234567890abcdef) 、 @string|aes(1234567890abcdef,CBC,abcdef1234567890,hex)<br>
+ * 参数：密钥[,模式[,IV[,hex|base64]]]
+ * <ul>
+ *     <li>密钥：按UTF-8编码后长度需要为16、24或32字节</li>
+ *     <li>模式：ECB（默认）、CBC、GCM，ECB与CBC使用PKCS5Padding</li>
+ *     <li>IV：CBC模式下按UTF-8编码后长度为16字节的固定IV；不填时每次随机生成并放在密文之前。
+ *     GCM模式始终每次随机生成12字节的IV并放在密文之前，不接受固定的IV</li>
+ *     <li>输出编码：默认base64</li>
+ * </ul>
+ * 每个阶段在编译时确定密钥与模式，Cipher实例在每个线程中复用，固定IV的模式只初始化一次。
+ */
+public class AesFun {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int GCM_IV_LENGTH = 12;
+
+    private static final int GCM_TAG_BITS = 128;
+
+    /**
+     * 创建AES加密阶段
+     *
+     * @param args 参数：密钥[,模式[,IV[,hex|base64]]]
+     */
+    public static FunctionStage stage(String args) {
+        String[] params = FunctionArgs.split(args);
+        if (params.length == 0 || params[0].isEmpty()) {
+            throw new MockException("aes缺少密钥");
+        }
+        byte[] keyBytes = params[0].getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
+            throw new MockException("aes密钥长度需要为16、24或32字节：" + keyBytes.length);
+        }
+        SecretKeySpec key = new SecretKeySpec(keyBytes, "AES");
+        String mode = params.length > 1 && !params[1].isEmpty() ? params[1].toUpperCase() : "ECB";
+        String iv = params.length > 2 && !params[2].isEmpty() ? params[2] : null;
+        Encoding encoding = Encoding.of(params.length > 3 ? params[3] : null, Encoding.BASE64);
+
+        Mode cipherMode;
+        switch (mode) {
+            case "ECB":
+                cipherMode = new Mode("AES/ECB/PKCS5Padding", 0, null);
+                break;
+            case "CBC":
+                if (iv == null) {
+                    cipherMode = new Mode("AES/CBC/PKCS5Padding", BLOCK_SIZE, null);
+                } else {
+                    byte[] ivBytes = iv.getBytes(StandardCharsets.UTF_8);
+                    if (ivBytes.length != BLOCK_SIZE) {
+                        throw new MockException("aes的IV长度需要为16字节：" + ivBytes.length);
+                    }
+                    cipherMode = new Mode("AES/CBC/PKCS5Padding", 0, new IvParameterSpec(ivBytes));
+                }
+                break;
+            case "GCM":
+                if (iv != null) {
+                    throw new MockException("aes的GCM模式不支持固定的IV");
+                }
+                cipherMode = new Mode("AES/GCM/NoPadding", GCM_IV_LENGTH, null);
+                break;
+            default:
+                throw new MockException("不支持的aes模式：" + mode);
+        }
+
+        //提前校验参数，配置错误时在编译阶段就失败
+        newState(key, cipherMode);
+        InstancePool<State> states = new InstancePool<>(() -> newState(key, cipherMode));
+        return value -> {
+            State state = states.acquire();
+            try {
+                return encrypt(state, key, cipherMode, encoding, value);
+            } catch (GeneralSecurityException e) {
+                throw new MockException("aes加密失败", e);
+            } finally {
+                states.release(state);
+            }
+        };
+    }
+
+    private static String encrypt(State state, SecretKeySpec key, Mode mode, Encoding encoding, String value)
+            throws GeneralSecurityException {
+        Cipher cipher = state.cipher;
+        int ivLength = mode.randomIvLength;
+        if (ivLength > 0) {
+            state.random.nextBytes(state.iv);
+            cipher.init(Cipher.ENCRYPT_MODE, key, mode.parameterSpec(state.iv));
+        }
+        int length = state.scratch.encode(value);
+        byte[] output = state.scratch.output(ivLength + cipher.getOutputSize(length));
+        System.arraycopy(state.iv, 0, output, 0, ivLength);
+        int written = cipher.doFinal(state.scratch.input(), 0, length, output, ivLength);
+        return encoding.encode(output, 0, ivLength + written);
+    }
+
+    private static State newState(SecretKeySpec key, Mode mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(mode.transformation);
+            if (mode.randomIvLength == 0) {
+                if (mode.fixedIv == null) {
+                    cipher.init(Cipher.ENCRYPT_MODE, key);
+                } else {
+                    cipher.init(Cipher.ENCRYPT_MODE, key, mode.fixedIv);
+                }
+            }
+            return new State(cipher, mode.randomIvLength);
+        } catch (GeneralSecurityException e) {
+            throw new MockException("初始化aes失败：" + mode.transformation, e);
+        }
+    }
+
+    /**
+     * 加密模式
+     */
+    private static final class Mode {
+        private final String transformation;
+
+        /**
+         * 每次随机生成的IV的长度，0表示不需要随机IV
+         */
+        private final int randomIvLength;
+
+        /**
+         * 固定的IV
+         */
+        private final IvParameterSpec fixedIv;
+
+        private Mode(String transformation, int randomIvLength, IvParameterSpec fixedIv) {
+            this.transformation = transformation;
+            this.randomIvLength = randomIvLength;
+            this.fixedIv = fixedIv;
+        }
+
+        private AlgorithmParameterSpec parameterSpec(byte[] iv) {
+            if (randomIvLength == GCM_IV_LENGTH) {
+                return new GCMParameterSpec(GCM_TAG_BITS, iv);
+            }
+            return new IvParameterSpec(iv);
+        }
+    }
+
+    /**
+     * 一个Cipher实例与它的缓冲区
+     */
+    private static final class State {
+        private final Cipher cipher;
+        private final byte[] iv;
+        private final SecureRandom random;
+        private final Scratch scratch = new Scratch();
+
+        private State(Cipher cipher, int ivLength) {
+            this.cipher = cipher;
+            this.iv = new byte[ivLength];
+            this.random = ivLength > 0 ? new SecureRandom() : null;
+        }
+    }
+}
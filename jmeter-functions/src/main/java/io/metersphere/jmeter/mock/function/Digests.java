@@ -0,0 +1,82 @@
+package io.metersphere.jmeter.mock.function;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 摘要计算<br>
+ * 每种算法的MessageDigest实例通过{@link InstancePool}复用，
+ * 输入按UTF-8直接编码到复用的字节缓冲区中，结果通过查表转换为十六进制，写入预先分配好大小的字符数组。
+ */
+public final class Digests {
+
+    public static final Digests MD5 = new Digests("MD5");
+    public static final Digests SHA1 = new Digests("SHA-1");
+    public static final Digests SHA224 = new Digests("SHA-224");
+    public static final Digests SHA256 = new Digests("SHA-256");
+    public static final Digests SHA384 = new Digests("SHA-384");
+    public static final Digests SHA512 = new Digests("SHA-512");
+
+    /**
+     * 算法名称
+     */
+    private final String algorithm;
+
+    /**
+     * MessageDigest实例与缓冲区
+     */
+    private final InstancePool<State> states;
+
+    private Digests(String algorithm) {
+        this.algorithm = algorithm;
+        this.states = new InstancePool<>(this::newState);
+    }
+
+    /**
+     * 计算摘要，返回小写的十六进制字符串
+     *
+     * @param input 输入，按UTF-8编码
+     */
+    public String hex(String input) {
+        State state = states.acquire();
+        try {
+            MessageDigest digest = state.digest;
+            int length = state.scratch.encode(input);
+            digest.update(state.scratch.input(), 0, length);
+            int hashLength = digest.digest(state.hash, 0, state.hash.length);
+            return Encoding.HEX.encode(state.hash, 0, hashLength);
+        } catch (DigestException e) {
+            state.digest.reset();
+            throw new IllegalStateException(e);
+        } finally {
+            states.release(state);
+        }
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    private State newState() {
+        try {
+            return new State(MessageDigest.getInstance(algorithm));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 一个MessageDigest实例与它的输入、输出缓冲区
+     */
+    private static final class State {
+        private final MessageDigest digest;
+        private final byte[] hash;
+        private final Scratch scratch = new Scratch();
+
+        private State(MessageDigest digest) {
+            this.digest = digest;
+            this.hash = new byte[digest.getDigestLength()];
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.metersphere.jmeter.mock.function;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+/**
+ * 字节数组的文本编码，通过查表直接写入预先分配好大小的字符数组
+ */
+public enum Encoding {
+    HEX {
+        @Override
+        public String encode(byte[] bytes, int offset, int length) {
+            char[] chars = new char[length * 2];
+            for (int i = 0; i < length; i++) {
+                int index = (bytes[offset + i] & 0xFF) << 1;
+                chars[i * 2] = HEX_TABLE[index];
+                chars[i * 2 + 1] = HEX_TABLE[index + 1];
+            }
+            return new String(chars);
+        }
+    },
+    BASE64 {
+        @Override
+        public String encode(byte[] bytes, int offset, int length) {
+            char[] chars = new char[(length + 2) / 3 * 4];
+            int end = offset + length - length % 3;
+            int position = 0;
+            for (int i = offset; i < end; i += 3) {
+                int bits = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | (bytes[i + 2] & 0xFF);
+                chars[position++] = BASE64_TABLE[bits >>> 18];
+                chars[position++] = BASE64_TABLE[(bits >>> 12) & 0x3F];
+                chars[position++] = BASE64_TABLE[(bits >>> 6) & 0x3F];
+                chars[position++] = BASE64_TABLE[bits & 0x3F];
+            }
+            int remain = length % 3;
+            if (remain > 0) {
+                int bits = (bytes[end] & 0xFF) << 16 | (remain == 2 ? (bytes[end + 1] & 0xFF) << 8 : 0);
+                chars[position++] = BASE64_TABLE[bits >>> 18];
+                chars[position++] = BASE64_TABLE[(bits >>> 12) & 0x3F];
+                chars[position++] = remain == 2 ? BASE64_TABLE[(bits >>> 6) & 0x3F] : '=';
+                chars[position] = '=';
+            }
+            return new String(chars);
+        }
+    };
+
+    /**
+     * 字节 -> 两个十六进制字符
+     */
+    private static final char[] HEX_TABLE = new char[512];
+
+    private static final char[] BASE64_TABLE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    static {
+        char[] digits = "0123456789abcdef".toCharArray();
+        for (int i = 0; i < 256; i++) {
+            HEX_TABLE[i * 2] = digits[i >>> 4];
+            HEX_TABLE[i * 2 + 1] = digits[i & 0xF];
+        }
+    }
+
+    /**
+     * 编码
+     *
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param length 长度
+     */
+    public abstract String encode(byte[] bytes, int offset, int length);
+
+    /**
+     * 根据名称获取编码，名称为空时返回默认值
+     *
+     * @param name         hex 或 base64，不区分大小写
+     * @param defaultValue 默认值
+     */
+    public static Encoding of(String name, Encoding defaultValue) {
+        if (name == null || name.trim().isEmpty()) {
+            return defaultValue;
+        }
+        switch (name.trim().toLowerCase()) {
+            case "hex":
+                return HEX;
+            case "base64":
+                return BASE64;
+            default:
+                throw new MockException("不支持的编码：" + name);
+        }
+    }
+}
@@ -3,62 +3,206 @@ package io.metersphere.jmeter.mock.function;
 import org.apache.commons.lang3.StringUtils;
 
 import java.math.BigDecimal;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 public enum FunctionApply {
-    MD5,
-    BASE64,
-    UN_BASE64,
-    SUBSTR,
-    CONCAT,
-    L_CONCAT,
-    SHA1,
-    SHA256,
-    SHA512,
-    SHA384,
-    SHA224,
-    LOWER,
-    UPPER,
-    LENGTH,
-    NUMBER;
+    MD5("md5") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return MD5Fun::calculate;
+        }
+    },
+    BASE64("base64") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return Base64Fun::base64Encode;
+        }
+    },
+    UN_BASE64("unbase64") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return Base64Fun::base64Decode;
+        }
+    },
+    SUBSTR("substr") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return subStrStage(args);
+        }
+    },
+    CONCAT("concat") {
+        @Override
+        public FunctionStage createStage(String args) {
+            String func = args == null ? "" : args;
+            return value -> concat(value, func, false);
+        }
+    },
+    L_CONCAT("lconcat") {
+        @Override
+        public FunctionStage createStage(String args) {
+            String func = args == null ? "" : args;
+            return value -> concat(value, func, true);
+        }
+    },
+    SHA1("sha1") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return ShaFun::sha1;
+        }
+    },
+    SHA256("sha256") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return ShaFun::sha256;
+        }
+    },
+    SHA512("sha512") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return ShaFun::sha512;
+        }
+    },
+    SHA384("sha384") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return ShaFun::sha384;
+        }
+    },
+    SHA224("sha224") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return ShaFun::sha224;
+        }
+    },
+    LOWER("lower") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return String::toLowerCase;
+        }
+    },
+    UPPER("upper") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return String::toUpperCase;
+        }
+    },
+    LENGTH("length") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return value -> String.valueOf(value.length());
+        }
+    },
+    NUMBER("number") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return FunctionApply::number;
+        }
+    },
+    HMAC_MD5("hmacmd5") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HmacFun.stage("HmacMD5", args);
+        }
+    },
+    HMAC_SHA1("hmacsha1") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HmacFun.stage("HmacSHA1", args);
+        }
+    },
+    HMAC_SHA256("hmacsha256") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HmacFun.stage("HmacSHA256", args);
+        }
+    },
+    HMAC_SHA512("hmacsha512") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HmacFun.stage("HmacSHA512", args);
+        }
+    },
+    AES("aes") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return AesFun.stage(args);
+        }
+    },
+    CRC32C("crc32c") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HashFun.crc32c();
+        }
+    },
+    XXHASH64("xxhash64") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HashFun.xxHash64(args);
+        }
+    },
+    MURMUR3("murmur3") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return HashFun.murmur3(args);
+        }
+    },
+    MOD("mod") {
+        @Override
+        public FunctionStage createStage(String args) {
+            return new ModStage(args);
+        }
+    };
 
-    public static String apply(String value, String funcStr) {
+    /**
+     * 函数名 -> 函数
+     */
+    private static final Map<String, FunctionApply> FUNCTIONS = new HashMap<>();
+
+    static {
+        for (FunctionApply function : values()) {
+            FUNCTIONS.put(function.funcName, function);
+        }
+    }
+
+    /**
+     * 管道中使用的函数名
+     */
+    private final String funcName;
+
+    FunctionApply(String funcName) {
+        this.funcName = funcName;
+    }
+
+    public String getFuncName() {
+        return funcName;
+    }
+
+    /**
+     * 创建此函数的处理阶段
+     *
+     * @param args 函数参数，没有参数时为null
+     * @return 处理阶段
+     */
+    public abstract FunctionStage createStage(String args);
+
+    /**
+     * 解析函数字符串，获取对应的处理阶段。
+     * 未知的函数会得到一个始终返回函数字符串本身的阶段。
+     *
+     * @param funcStr 函数字符串，例如：md5、substr(0,8)、substr:0,8
+     */
+    public static FunctionStage stage(String funcStr) {
         String[] args = compile(funcStr);
-        switch (args[0]) {
-            case "md5":
-                return MD5Fun.calculate(value);
-            case "base64":
-                return Base64Fun.base64Encode(value);
-            case "unbase64":
-                return Base64Fun.base64Decode(value);
-            case "substr":
-                return subStr(value, args[1]);
-            case "concat":
-                return concat(value, args[1], false);
-            case "lconcat":
-                return concat(value, args[1], true);
-            case "sha1":
-                return ShaFun.sha1(value);
-            case "sha256":
-                return ShaFun.sha256(value);
-            case "sha512":
-                return ShaFun.sha512(value);
-            case "sha384":
-                return ShaFun.sha384(value);
-            case "sha224":
-                return ShaFun.sha224(value);
-            case "lower":
-                return value.toLowerCase();
-            case "upper":
-                return value.toUpperCase();
-            case "length":
-                return String.valueOf(value.length());
-            case "number":
-                return number(value);
-            default:
-                return funcStr;
+        FunctionApply function = FUNCTIONS.get(args[0]);
+        if (function == null) {
+            return value -> funcStr;
         }
+        return function.createStage(args.length > 1 ? args[1] : null);
+    }
+
+    public static String apply(String value, String funcStr) {
+        return stage(funcStr).apply(value);
     }
 
     public static String number(String value) {
@@ -101,14 +245,51 @@ public enum FunctionApply {
         }
     }
 
-    public static String[] compile(String input) {
-        Pattern pattern = Pattern.compile("(\\w+)\\((.*?)\\)");
-        Matcher matcher = pattern.matcher(input);
+    /**
+     * 创建截取阶段，参数只解析一次，解析失败时原样返回
+     */
+    private static FunctionStage subStrStage(String func) {
+        try {
+            String[] args = func.split(",");
+            if (args.length <= 1) {
+                return value -> value;
+            }
+            int start = 0;
+            if (StringUtils.isNotBlank(args[0])) {
+                start = Math.max(Integer.parseInt(args[0].trim()), 0);
+            }
+            Integer end = null;
+            if (StringUtils.isNotBlank(args[1])) {
+                end = Integer.parseInt(args[1].trim());
+            }
+            final int startIndex = start;
+            final Integer endIndex = end;
+            return value -> {
+                try {
+                    return value.substring(startIndex, endIndex == null ? value.length() : endIndex);
+                } catch (Exception e) {
+                    return value;
+                }
+            };
+        } catch (Exception e) {
+            return value -> value;
+        }
+    }
 
-        if (matcher.find()) {
-            String functionName = matcher.group(1);
-            String arguments = matcher.group(2);
-            return new String[]{functionName, arguments};
+    /**
+     * 拆分函数名与参数，支持 name(args) 与 name:args 两种写法
+     *
+     * @param input 函数字符串
+     * @return [函数名, 参数]，没有参数时只有函数名
+     */
+    public static String[] compile(String input) {
+        int open = input.indexOf('(');
+        if (open > 0 && input.endsWith(")")) {
+            return new String[]{input.substring(0, open).trim(), input.substring(open + 1, input.length() - 1)};
+        }
+        int colon = input.indexOf(':');
+        if (colon > 0) {
+            return new String[]{input.substring(0, colon).trim(), input.substring(colon + 1)};
         }
         return new String[]{input};
     }
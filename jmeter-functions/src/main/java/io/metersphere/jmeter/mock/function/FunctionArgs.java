@@ -0,0 +1,55 @@
+package io.metersphere.jmeter.mock.function;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 管道函数参数的拆分，参数之间以逗号分隔，参数可以使用单引号或双引号包裹以包含逗号
+ */
+final class FunctionArgs {
+
+    private static final String[] EMPTY = new String[0];
+
+    private FunctionArgs() {
+    }
+
+    /**
+     * 拆分参数，去掉两端的空格与包裹的引号
+     *
+     * @param args 参数字符串，可以为null
+     */
+    static String[] split(String args) {
+        if (args == null || args.trim().isEmpty()) {
+            return EMPTY;
+        }
+        List<String> params = new ArrayList<>(4);
+        int length = args.length();
+        int i = 0;
+        while (i <= length) {
+            while (i < length && args.charAt(i) == ' ') {
+                i++;
+            }
+            char c = i < length ? args.charAt(i) : 0;
+            if (c == '\'' || c == '"') {
+                int close = args.indexOf(c, i + 1);
+                if (close > 0) {
+                    params.add(args.substring(i + 1, close));
+                    int comma = args.indexOf(',', close + 1);
+                    if (comma < 0) {
+                        break;
+                    }
+                    i = comma + 1;
+                    continue;
+                }
+            }
+            int comma = args.indexOf(',', i);
+            if (comma < 0) {
+                params.add(args.substring(i).trim());
+                break;
+            }
+            params.add(args.substring(i, comma).trim());
+            i = comma + 1;
+        }
+        return params.toArray(EMPTY);
+    }
+}
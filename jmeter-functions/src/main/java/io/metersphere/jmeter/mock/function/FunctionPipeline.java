@@ -0,0 +1,70 @@
+package io.metersphere.jmeter.mock.function;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 编译后的管道函数，例如 @string|upper|md5|substr(0,8) 中的 upper|md5|substr(0,8)。<br>
+ * 每个阶段在编译时解析为{@link FunctionStage}对象，执行时按顺序把上一个阶段的结果直接交给下一个阶段，
+ * 不再解析函数名与参数。创建后不可变，可以在多个线程之间共享。
+ */
+public final class FunctionPipeline {
+
+    /**
+     * 全部阶段，按执行顺序排列
+     */
+    private final FunctionStage[] stages;
+
+    /**
+     * 编译管道函数
+     *
+     * @param funcStrs 每个阶段的函数字符串，例如：md5、substr(0,8)，空字符串会被忽略
+     * @return 管道，如果没有任何阶段则返回null
+     */
+    public static FunctionPipeline compile(String... funcStrs) {
+        List<FunctionStage> stageList = new ArrayList<>(funcStrs.length);
+        for (String funcStr : funcStrs) {
+            String trim = funcStr.trim();
+            if (trim.isEmpty()) {
+                continue;
+            }
+            FunctionStage stage = FunctionApply.stage(trim);
+            int last = stageList.size() - 1;
+            //哈希后紧跟取模时合并为一个阶段，直接对哈希值取模
+            if (stage instanceof ModStage && last >= 0 && stageList.get(last) instanceof HashStage) {
+                stageList.set(last, ((ModStage) stage).fuse((HashStage) stageList.get(last)));
+                continue;
+            }
+            stageList.add(stage);
+        }
+        if (stageList.isEmpty()) {
+            return null;
+        }
+        return new FunctionPipeline(stageList.toArray(new FunctionStage[0]));
+    }
+
+    /**
+     * 依次执行全部阶段
+     *
+     * @param value 初始值
+     * @return 最后一个阶段的结果
+     */
+    public String apply(String value) {
+        String result = value;
+        for (FunctionStage stage : stages) {
+            result = stage.apply(result);
+        }
+        return result;
+    }
+
+    /**
+     * 阶段数量
+     */
+    public int size() {
+        return stages.length;
+    }
+
+    private FunctionPipeline(FunctionStage[] stages) {
+        this.stages = stages;
+    }
+}
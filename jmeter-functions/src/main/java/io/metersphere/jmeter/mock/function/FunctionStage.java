@@ -0,0 +1,18 @@
+package io.metersphere.jmeter.mock.function;
+
+/**
+ * 管道函数的一个处理阶段，例如 @string|md5 中的 md5。<br>
+ * 阶段在表达式编译时创建，参数已经解析完成，执行时只进行计算。
+ */
+@FunctionalInterface
+public interface FunctionStage {
+
+    /**
+     * 处理上一个阶段的结果
+     *
+     * @param value 上一个阶段的结果
+     * @return 处理结果
+     */
+    String apply(String value);
+
+}
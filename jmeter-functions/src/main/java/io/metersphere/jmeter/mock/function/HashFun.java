@@ -0,0 +1,224 @@
+package io.metersphere.jmeter.mock.function;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32C;
+
+/**
+ * 非加密哈希，用于分片键、分区键、分桶等只需要稳定哈希值的场景，输出无符号十进制整数。<br>
+ * 例如：@string|crc32c 、 @string|xxhash64 、 @string|murmur3(42)|mod(16)<br>
+ * 输入按UTF-8编码到线程内复用的缓冲区中，直接在缓冲区上计算，不再复制。
+ */
+public class HashFun {
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+    private static final long P5 = 0x27D4EB2F165667C5L;
+
+    private static final int C1 = 0xCC9E2D51;
+    private static final int C2 = 0x1B873593;
+
+    /**
+     * 线程内复用的CRC32C与编码缓冲区
+     */
+    private static final InstancePool<Crc32cState> CRC32C_STATES = new InstancePool<>(Crc32cState::new);
+
+    /**
+     * 线程内复用的编码缓冲区
+     */
+    private static final InstancePool<Scratch> SCRATCHES = new InstancePool<>(Scratch::new);
+
+    /**
+     * CRC32C，输出32位无符号整数
+     */
+    public static HashStage crc32c() {
+        return value -> {
+            Crc32cState state = CRC32C_STATES.acquire();
+            try {
+                int length = state.scratch.encode(value);
+                CRC32C crc = state.crc;
+                crc.reset();
+                crc.update(state.scratch.input(), 0, length);
+                return crc.getValue();
+            } finally {
+                CRC32C_STATES.release(state);
+            }
+        };
+    }
+
+    /**
+     * xxHash64，输出64位无符号整数
+     *
+     * @param args 种子，可以为空，默认为0
+     */
+    public static HashStage xxHash64(String args) {
+        long seed = seed(args);
+        return value -> {
+            Scratch scratch = SCRATCHES.acquire();
+            try {
+                int length = scratch.encode(value);
+                return xxHash64(scratch.input(), 0, length, seed);
+            } finally {
+                SCRATCHES.release(scratch);
+            }
+        };
+    }
+
+    /**
+     * MurmurHash3 x86_32，输出32位无符号整数
+     *
+     * @param args 种子，可以为空，默认为0
+     */
+    public static HashStage murmur3(String args) {
+        int seed = (int) seed(args);
+        return value -> {
+            Scratch scratch = SCRATCHES.acquire();
+            try {
+                int length = scratch.encode(value);
+                return murmur3(scratch.input(), 0, length, seed) & 0xFFFFFFFFL;
+            } finally {
+                SCRATCHES.release(scratch);
+            }
+        };
+    }
+
+    private static long seed(String args) {
+        if (args == null || args.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(args.trim());
+        } catch (NumberFormatException e) {
+            throw new MockException("哈希种子需要为整数：" + args);
+        }
+    }
+
+    /* —————————————————————— xxHash64 —————————————————————— */
+
+    /**
+     * 计算xxHash64
+     */
+    public static long xxHash64(byte[] bytes, int offset, int length, long seed) {
+        int end = offset + length;
+        int position = offset;
+        long hash;
+        if (length >= 32) {
+            long v1 = seed + P1 + P2;
+            long v2 = seed + P2;
+            long v3 = seed;
+            long v4 = seed - P1;
+            int limit = end - 32;
+            do {
+                v1 = round(v1, getLong(bytes, position));
+                v2 = round(v2, getLong(bytes, position + 8));
+                v3 = round(v3, getLong(bytes, position + 16));
+                v4 = round(v4, getLong(bytes, position + 24));
+                position += 32;
+            } while (position <= limit);
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = seed + P5;
+        }
+        hash += length;
+        while (position + 8 <= end) {
+            hash ^= round(0, getLong(bytes, position));
+            hash = Long.rotateLeft(hash, 27) * P1 + P4;
+            position += 8;
+        }
+        if (position + 4 <= end) {
+            hash ^= (getInt(bytes, position) & 0xFFFFFFFFL) * P1;
+            hash = Long.rotateLeft(hash, 23) * P2 + P3;
+            position += 4;
+        }
+        while (position < end) {
+            hash ^= (bytes[position] & 0xFF) * P5;
+            hash = Long.rotateLeft(hash, 11) * P1;
+            position++;
+        }
+        hash ^= hash >>> 33;
+        hash *= P2;
+        hash ^= hash >>> 29;
+        hash *= P3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * P2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * P1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * P1 + P4;
+    }
+
+    /* —————————————————————— MurmurHash3 —————————————————————— */
+
+    /**
+     * 计算MurmurHash3 x86_32
+     */
+    @SuppressWarnings("fallthrough")
+    public static int murmur3(byte[] bytes, int offset, int length, int seed) {
+        int hash = seed;
+        int end = offset + (length & ~3);
+        for (int i = offset; i < end; i += 4) {
+            hash ^= mixK1(getInt(bytes, i));
+            hash = Integer.rotateLeft(hash, 13);
+            hash = hash * 5 + 0xE6546B64;
+        }
+        int k1 = 0;
+        switch (length & 3) {
+            case 3:
+                k1 ^= (bytes[end + 2] & 0xFF) << 16;
+            case 2:
+                k1 ^= (bytes[end + 1] & 0xFF) << 8;
+            case 1:
+                k1 ^= bytes[end] & 0xFF;
+                hash ^= mixK1(k1);
+            default:
+        }
+        hash ^= length;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        return k1 * C2;
+    }
+
+    private static long getLong(byte[] bytes, int index) {
+        return (long) LONG_LE.get(bytes, index);
+    }
+
+    private static int getInt(byte[] bytes, int index) {
+        return (int) INT_LE.get(bytes, index);
+    }
+
+    /**
+     * CRC32C实例与它的编码缓冲区
+     */
+    private static final class Crc32cState {
+        private final CRC32C crc = new CRC32C();
+        private final Scratch scratch = new Scratch();
+    }
+}
@@ -0,0 +1,21 @@
+package io.metersphere.jmeter.mock.function;
+
+/**
+ * 输出无符号整数的哈希阶段，例如 crc32c、xxhash64、murmur3。<br>
+ * 后面紧跟 mod(N) 阶段时，编译管道时两个阶段会合并，直接对哈希值取模，不再经过字符串转换。
+ */
+public interface HashStage extends FunctionStage {
+
+    /**
+     * 计算哈希值
+     *
+     * @param value 输入，按UTF-8编码
+     * @return 哈希值，按无符号整数解释
+     */
+    long hash(String value);
+
+    @Override
+    default String apply(String value) {
+        return Long.toUnsignedString(hash(value));
+    }
+}
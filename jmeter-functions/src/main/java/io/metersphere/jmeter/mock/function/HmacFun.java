@@ -0,0 +1,73 @@
+package io.metersphere.jmeter.mock.function;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * HMAC签名，例如：@string|hmacsha256(secret) 、 @string|hmacsha256(secret,base64)<br>
+ * 每个阶段在编译时确定密钥，Mac实例在每个线程中只初始化一次，之后重复使用。
+ */
+public class HmacFun {
+
+    /**
+     * 创建HMAC阶段
+     *
+     * @param algorithm 算法，例如 HmacSHA256
+     * @param args      参数：密钥[,hex|base64]，默认输出十六进制
+     */
+    public static FunctionStage stage(String algorithm, String args) {
+        String[] params = FunctionArgs.split(args);
+        if (params.length == 0 || params[0].isEmpty()) {
+            throw new MockException(algorithm + "缺少密钥");
+        }
+        SecretKeySpec key = new SecretKeySpec(params[0].getBytes(StandardCharsets.UTF_8), algorithm);
+        Encoding encoding = Encoding.of(params.length > 1 ? params[1] : null, Encoding.HEX);
+        //提前校验算法与密钥，配置错误时在编译阶段就失败
+        newState(key);
+        InstancePool<State> states = new InstancePool<>(() -> newState(key));
+        return value -> {
+            State state = states.acquire();
+            try {
+                Mac mac = state.mac;
+                int length = state.scratch.encode(value);
+                mac.update(state.scratch.input(), 0, length);
+                mac.doFinal(state.result, 0);
+                return encoding.encode(state.result, 0, state.result.length);
+            } catch (ShortBufferException e) {
+                state.mac.reset();
+                throw new IllegalStateException(e);
+            } finally {
+                states.release(state);
+            }
+        };
+    }
+
+    private static State newState(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return new State(mac);
+        } catch (GeneralSecurityException e) {
+            throw new MockException("初始化" + key.getAlgorithm() + "失败", e);
+        }
+    }
+
+    /**
+     * 一个已经初始化的Mac实例与它的缓冲区
+     */
+    private static final class State {
+        private final Mac mac;
+        private final byte[] result;
+        private final Scratch scratch = new Scratch();
+
+        private State(Mac mac) {
+            this.mac = mac;
+            this.result = new byte[mac.getMacLength()];
+        }
+    }
+}
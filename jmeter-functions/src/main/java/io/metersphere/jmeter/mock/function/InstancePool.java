@@ -0,0 +1,89 @@
+package io.metersphere.jmeter.mock.function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * 可复用对象的缓存，用于MessageDigest、Mac、Cipher这类创建成本高且不能并发使用的对象<br>
+ * 平台线程使用线程内的实例；虚拟线程数量很多且生命周期短，改为从一个共享的池中借用，用完归还。
+ *
+ * @param <T> 对象类型
+ */
+final class InstancePool<T> {
+
+    /**
+     * 池中保留的最大实例数量
+     */
+    private static final int MAX_POOL_SIZE = 64;
+
+    /**
+     * Thread.isVirtual()，运行在不支持虚拟线程的JDK上时为null
+     */
+    private static final MethodHandle IS_VIRTUAL;
+
+    static {
+        MethodHandle isVirtual;
+        try {
+            isVirtual = MethodHandles.publicLookup()
+                    .findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            isVirtual = null;
+        }
+        IS_VIRTUAL = isVirtual;
+    }
+
+    private final Supplier<T> factory;
+
+    /**
+     * 平台线程使用的线程内实例
+     */
+    private final ThreadLocal<T> local;
+
+    /**
+     * 虚拟线程使用的实例池
+     */
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+
+    InstancePool(Supplier<T> factory) {
+        this.factory = factory;
+        this.local = ThreadLocal.withInitial(factory);
+    }
+
+    /**
+     * 获取一个实例，用完后需要调用{@link #release(Object)}
+     */
+    T acquire() {
+        if (!isVirtualThread()) {
+            return local.get();
+        }
+        T instance = pool.poll();
+        return instance == null ? factory.get() : instance;
+    }
+
+    /**
+     * 归还实例
+     */
+    void release(T instance) {
+        if (isVirtualThread() && pool.size() < MAX_POOL_SIZE) {
+            pool.offer(instance);
+        }
+    }
+
+    /**
+     * 当前线程是否为虚拟线程
+     */
+    static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
@@ -1,25 +1,10 @@
 package io.metersphere.jmeter.mock.function;
 
-import java.security.MessageDigest;
-
 public class MD5Fun {
 
     public static String calculate(String input) {
         try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] inputBytes = input.getBytes();
-            byte[] hashBytes = md.digest(inputBytes);
-
-            // 将字节数组转换为十六进制字符串
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
+            return Digests.MD5.hex(input);
         } catch (Exception e) {
             return input;
         }
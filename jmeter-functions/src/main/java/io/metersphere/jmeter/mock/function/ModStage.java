@@ -0,0 +1,52 @@
+package io.metersphere.jmeter.mock.function;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.math.BigInteger;
+
+/**
+ * 取模阶段，例如 mod(16)，结果在 [0, N) 之间。
+ * 输入不是整数时原样返回。
+ */
+final class ModStage implements FunctionStage {
+
+    /**
+     * 模数
+     */
+    private final long modulus;
+
+    private final BigInteger bigModulus;
+
+    ModStage(String args) {
+        try {
+            this.modulus = Long.parseLong(args == null ? "" : args.trim());
+        } catch (NumberFormatException e) {
+            throw new MockException("mod的参数需要为正整数：" + args);
+        }
+        if (modulus <= 0) {
+            throw new MockException("mod的参数需要为正整数：" + args);
+        }
+        this.bigModulus = BigInteger.valueOf(modulus);
+    }
+
+    @Override
+    public String apply(String value) {
+        try {
+            return Long.toString(Math.floorMod(Long.parseLong(value), modulus));
+        } catch (NumberFormatException e) {
+            try {
+                return new BigInteger(value).mod(bigModulus).toString();
+            } catch (NumberFormatException ignored) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * 与前面的哈希阶段合并
+     */
+    FunctionStage fuse(HashStage hash) {
+        long m = modulus;
+        return value -> Long.toString(Long.remainderUnsigned(hash.hash(value), m));
+    }
+}
@@ -0,0 +1,63 @@
+package io.metersphere.jmeter.mock.function;
+
+/**
+ * 复用的输入、输出字节缓冲区，与MessageDigest、Mac、Cipher等实例一起被线程独占使用。<br>
+ * 超过上限的大小临时分配，避免偶尔的大输入一直占用内存。
+ */
+final class Scratch {
+
+    /**
+     * 复用的缓冲区的最大长度
+     */
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    private byte[] input = new byte[256];
+
+    private byte[] output = new byte[256];
+
+    /**
+     * 最近一次编码使用的缓冲区，可能是临时分配的
+     */
+    private byte[] encoded = input;
+
+    /**
+     * 将字符串按UTF-8编码到输入缓冲区
+     *
+     * @return 编码后的字节数，字节保存在{@link #input()}中
+     */
+    int encode(String value) {
+        encoded = ensure(input, Utf8.maxLength(value));
+        if (encoded.length <= MAX_BUFFER_SIZE) {
+            input = encoded;
+        }
+        return Utf8.encode(value, encoded);
+    }
+
+    /**
+     * 最近一次{@link #encode(String)}使用的输入缓冲区
+     */
+    byte[] input() {
+        return encoded;
+    }
+
+    /**
+     * 获取至少为指定大小的输出缓冲区
+     */
+    byte[] output(int size) {
+        byte[] buffer = ensure(output, size);
+        if (buffer.length <= MAX_BUFFER_SIZE) {
+            output = buffer;
+        }
+        return buffer;
+    }
+
+    private static byte[] ensure(byte[] buffer, int size) {
+        if (size <= buffer.length) {
+            return buffer;
+        }
+        if (size > MAX_BUFFER_SIZE) {
+            return new byte[size];
+        }
+        return new byte[Math.max(size, Math.min(buffer.length * 2, MAX_BUFFER_SIZE))];
+    }
+}
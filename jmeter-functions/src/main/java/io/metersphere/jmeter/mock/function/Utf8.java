@@ -0,0 +1,54 @@
+package io.metersphere.jmeter.mock.function;
+
+/**
+ * UTF-8编码，直接写入调用方提供的字节数组，不创建中间对象。
+ * 结果与 {@code String.getBytes(StandardCharsets.UTF_8)} 一致，不成对的代理字符编码为'?'。
+ */
+final class Utf8 {
+
+    private Utf8() {
+    }
+
+    /**
+     * 编码后的最大字节数
+     */
+    static int maxLength(String input) {
+        return input.length() * 3;
+    }
+
+    /**
+     * 将字符串编码到字节数组中
+     *
+     * @param input  字符串
+     * @param buffer 字节数组，长度至少为{@link #maxLength(String)}
+     * @return 编码后的字节数
+     */
+    static int encode(String input, byte[] buffer) {
+        int length = input.length();
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(input.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, input.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buffer[position++] = '?';
+                }
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+}
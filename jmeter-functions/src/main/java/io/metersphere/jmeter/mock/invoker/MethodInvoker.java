@@ -2,6 +2,7 @@ package io.metersphere.jmeter.mock.invoker;
 
 import io.metersphere.jmeter.mock.util.MethodUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -44,6 +45,16 @@ public class MethodInvoker implements Invoker {
         return new ConstValueMethodInvoker(constValue);
     }
 
+    /**
+     * 绑定了对象与参数的方法句柄，类型为 ()Object
+     */
+    private final MethodHandle handle;
+
+    /**
+     * 绑定失败（例如参数无法转化）时的异常，执行时抛出
+     */
+    private final Exception bindException;
+
     /**
      * 执行方法
      *
@@ -54,27 +65,38 @@ public class MethodInvoker implements Invoker {
     @Override
     public Object invoke() throws InvocationTargetException, IllegalAccessException {
         // 普通的执行者
-        return MethodUtils.invoke(obj, args, method);
+        if (handle == null) {
+            throw new InvocationTargetException(bindException);
+        }
+        try {
+            return (Object) handle.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
     }
 
+
     /**
      * 构造
+     * 参数在此时转化为方法的参数类型并绑定为方法句柄，执行时不再进行反射与类型转化
      */
     MethodInvoker(Object obj, Object[] args, Method method) {
         this.obj = obj;
-        /**
-         * 方法的名字
-         */
-        String methodName;
-        if(method != null){
-            methodName = method.getName();
-        }else{
-            methodName = null;
-        }
         this.args = args;
         this.method = method;
-    }
 
+        MethodHandle methodHandle = null;
+        Exception exception = null;
+        if (method != null) {
+            try {
+                methodHandle = MethodUtils.bind(obj, args, method);
+            } catch (Exception e) {
+                exception = e;
+            }
+        }
+        this.handle = methodHandle;
+        this.bindException = exception;
+    }
 
     /**
      * 常量值方法执行者
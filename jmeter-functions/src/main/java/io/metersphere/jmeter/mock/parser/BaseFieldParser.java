@@ -7,12 +7,9 @@ import io.metersphere.jmeter.mock.bean.MockField;
 import io.metersphere.jmeter.mock.util.FieldUtils;
 import io.metersphere.jmeter.mock.util.MethodUtils;
 import io.metersphere.jmeter.mock.util.MockUtils;
-import io.metersphere.jmeter.mock.util.RegexUtils;
 
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * 所有字段解析器的抽象父类<br>
@@ -103,40 +100,16 @@ public abstract class BaseFieldParser implements FieldParser {
     /* * * —————————————— 为子类服务的辅助方法 —————————————— * * */
 
 
-    /* —————————————— 正则与方法的解析 ———————————————— */
+    /* —————————————— 指令与方法的解析 ———————————————— */
 
     /**
-     * 看看有没有匹配的方法
+     * 对指令进行词法解析，获取其中的方法与多余字符
      *
-     * @param name 方法名
-     * @return  是否有
+     * @param instruction 指令字符串
+     * @return 解析结果
      */
-    protected static boolean match(String name) {
-        //获取正则
-        String regex = ".*" + getMethodRegex() + ".*";
-        return name.matches(regex);
-    }
-
-    /**
-     * 获取匹配的方法
-     * @param name 方法名
-     * @return  匹配的方法合集
-     */
-    protected static String[] getMethods(String name) {
-        //获取正则
-        String regex = getMethodRegex();
-        return RegexUtils.getMatcher(name, regex).toArray(new String[0]);
-    }
-
-    /**
-     * 获取对匹配的方法进行切割之后的结果
-     *
-     * @return
-     */
-    protected static String[] getMethodsSplit(String name) {
-        //获取正则
-        String regex = getMethodRegex();
-        return name.split(regex);
+    protected static InstructionLexer.Instruction lex(String instruction) {
+        return InstructionLexer.lex(instruction);
     }
 
 
@@ -149,25 +122,6 @@ public abstract class BaseFieldParser implements FieldParser {
         return getMethodInvoker(new String[]{methodName}).get(0);
     }
 
-
-    private static final Pattern replaceForNameRegex =
-            Pattern.compile("@|(\\(\\))|(\\(((\\w+)|('.+')|(\".+\"))(\\, *((\\w+)|('.+')|(\".+\")))*\\))");
-
-//    /**
-//     * 为方法{@link #getMethodInvoker}服务，提供正则来获取方法名
-//     * @return
-//     */
-//    private static String getReplaceForNameRegex(){
-//        return "@|(\\(\\))|(\\(((\\w+)|('.+')|(\".+\"))(\\,((\\w+)|('.+')|(\".+\")))*\\))";
-//    }
-    /**
-     * 为方法{@link #getMethodInvoker}服务，提供正则来获取方法名
-     * @return
-     */
-    private static Pattern getReplaceForNameRegex(){
-        return replaceForNameRegex;
-    }
-
     /**
      * 解析方法字符串并获取方法执行者
      * @param methods
@@ -175,72 +129,46 @@ public abstract class BaseFieldParser implements FieldParser {
      * @return
      */
     protected static List<Invoker> getMethodInvoker(String[] methods) {
-        //移除@符号、空括号、一个参数的括号、两个参数的括号
-//        String replaceForNameRegex = "@|(\\(\\))|(\\(\\w+(\\,\\w+)*\\))";
-        Pattern replaceForNameRegex = getReplaceForNameRegex();
-//        String replaceForParamRegex = "[(@" + getMethodNameRegexs() + ")\\(\\)]";
-//        String regex = "@" + getMethodNameRegexs() + "(((\\((\\w+|\\w+\\,\\w+)\\))|(\\(\\))|())?)";
-
-        List<Invoker> invokerList = new ArrayList<>();
-
+        List<Invoker> invokerList = new ArrayList<>(methods.length);
         //遍历方法，保证顺序
         for (String methodStr : methods) {
-            //获取方法名称
-            String methodName;
-//            String methodName = replaceForNameRegex.matcher(methodStr).replaceAll("");
-//            String methodName = methodStr.replaceAll(replaceForNameRegex, "");
-
-
-            int head = 0;
-            int end = -1;
-            if(methodStr.charAt(0) == '@'){
-                head = 1;
-            }
-            end = methodStr.indexOf("(");
-            if(end > -1){
-                methodName = methodStr.substring(head, end);
-            }else {
-                methodName = methodStr.substring(head);
-            }
-
-//            System.out.println(methodStr);
-//            System.out.println(methodName);
-
-            //获取方法的参数
-            String[] params = getMethodParams(methodStr);
-            //获取方法对象
-            Method method = getMethodFromName(methodName, params.length);
-            //返回一个方法执行者，如果为没有对应的方法则创建一个空执行者，返回原本的字符串
-            if (method == null) {
+            InstructionLexer.Directive directive = InstructionLexer.lexDirective(methodStr);
+            if (directive == null) {
+                //不是方法，创建一个空执行者，返回原本的字符串
                 invokerList.add(MethodUtils.createNullMethodInvoker(methodStr));
             } else {
-                invokerList.add(MethodUtils.createMethodInvoker(null, params, method));
+                invokerList.add(getMethodInvoker(directive));
             }
         }
-
         //返回方法执行者的集合
         return invokerList;
     }
 
-
     /**
-     * 获取匹配MockUtil中的方法的正则
-     *
-     * @return
+     * 获取词法解析得到的方法的执行者
+     * @param directives 方法列表
+     * @return 方法执行者的集合，顺序与方法的顺序一致
      */
-    protected static String getMethodRegex() {
-        String collect = getMethodNameRegexs();
-        //全数量参数匹配、参数间空格匹配（参数为任意字符匹配）- 有bug
-//        String regex = "(@"+ collect +"+((\\((.+(\\,.+)*)\\))|(\\(\\))|()|))";
-        //全数量参数匹配、参数\\w匹配
-//        String regex = "(@" + collect + "+((\\((\\w+(\\,\\w+)*)\\))|(\\(\\))|())?)";
-
-        //尝试支持中文字符串
-        String regex = "(@" + collect + "{1}((\\((((\\w)+|('.+')|(\".+\"))(\\, *((\\w)+|('.+')|(\".+\")))*)\\))|(\\(\\))|())?)";
+    protected static List<Invoker> getMethodInvoker(InstructionLexer.Directive[] directives) {
+        List<Invoker> invokerList = new ArrayList<>(directives.length);
+        for (InstructionLexer.Directive directive : directives) {
+            invokerList.add(getMethodInvoker(directive));
+        }
+        return invokerList;
+    }
 
-        //值匹配0-1-2个参数
-//        String regex = "(@"+ collect +"+((\\((\\w+|\\w+\\,\\w+)\\))|(\\(\\))|())?)";
-        return regex;
+    /**
+     * 获取一个方法的执行者
+     */
+    private static Invoker getMethodInvoker(InstructionLexer.Directive directive) {
+        Object[] params = directive.getArgs();
+        //获取方法对象
+        Method method = getMethodFromName(directive.getName(), params.length);
+        //返回一个方法执行者，如果为没有对应的方法则创建一个空执行者，返回原本的字符串
+        if (method == null) {
+            return MethodUtils.createNullMethodInvoker(directive.getSource());
+        }
+        return MethodUtils.createMethodInvoker(null, params, method);
     }
 
 
@@ -250,43 +178,22 @@ public abstract class BaseFieldParser implements FieldParser {
      * @return
      */
     public static String[] getMethodParams(String methodStr) {
-        String replaceForParamRegex = "(@" + getMethodNameRegexs() + ")|\\(|\\)";
-        String[] split = methodStr.replaceAll(replaceForParamRegex, "").split("( *)\\,( *)");
-        return Arrays.stream(split).map(s -> s.trim().replaceAll("['\"]", "")).filter(s -> s.length() > 0).toArray(String[]::new);
+        InstructionLexer.Directive directive = InstructionLexer.lexDirective(methodStr);
+        if (directive == null) {
+            return new String[0];
+        }
+        return Arrays.stream(directive.getArgs()).map(String::valueOf).toArray(String[]::new);
     }
 
     /**
      * 通过名称获取方法
      * @param methodName   纯方法名称
      * @param paramsLength 参数数量
-     * @return MockUtil中对应方法名与参数数量的方法对象，如果没有获取到则返回null
+     * @return 对应方法名与参数数量的方法对象，如果没有获取到则返回null
      */
     public static Method getMethodFromName(String methodName, int paramsLength) {
-        //过滤出方法名匹配,参数长度也匹配的方法
-        Method value = null;
-
-//        try {
-            Map.Entry<String, Method> mockMethod = Mock.getMockMethodByFilter(entry ->
-//                    entry.getKey().replaceAll("\\([\\w\\.\\,]*\\)", "").equals(methodName)
-                    entry.getKey().startsWith(methodName)
-                    && entry.getValue().getParameters().length == paramsLength);
-            if(mockMethod != null){
-                value = mockMethod.getValue();
-            }
-        //返回结果
-        return value;
-    }
-
-
-//    private static final Pattern allMethodNameRegex;
-
-    /**
-     * 获取全部方法的正则匹配字符串
-     *
-     * @return
-     */
-    protected static String getMethodNameRegexs() {
-        return Mock.getMockMethods().keySet().stream().map(method -> method.replaceAll("(\\(.*\\))", "")).distinct().collect(Collectors.joining("|", "(", ")"));
+        //根据方法名与参数数量直接从注册表中获取
+        return Mock.getMockMethod(methodName, paramsLength);
     }
 
 
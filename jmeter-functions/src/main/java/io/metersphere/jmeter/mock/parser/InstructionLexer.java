@@ -0,0 +1,403 @@
+package io.metersphere.jmeter.mock.parser;
+
+import io.metersphere.jmeter.mock.Mock;
+
+import java.util.*;
+
+/**
+ * 指令词法解析器<br>
+ * 单次扫描指令字符串，识别其中的 @方法名(参数...) ，得到多余字符、方法名与参数。<br>
+ * 方法名使用预先构建好的字典树进行最长匹配，解析过程中不会编译任何正则表达式。
+ */
+final class InstructionLexer {
+
+    /**
+     * 方法名字典树，首次使用时构建
+     */
+    private static volatile NameTrie nameTrie;
+
+    /**
+     * 空参数
+     */
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * 解析一条指令
+     *
+     * @param instruction 指令字符串
+     * @return 解析结果
+     */
+    static Instruction lex(String instruction) {
+        NameTrie trie = getNameTrie();
+        List<String> literals = new ArrayList<>(2);
+        List<Directive> directives = new ArrayList<>(1);
+
+        int length = instruction.length();
+        //当前多余字符的起始位置
+        int literalStart = 0;
+        int i = 0;
+        while (i < length) {
+            if (instruction.charAt(i) == '@') {
+                Directive directive = lexDirective(trie, instruction, i);
+                if (directive != null) {
+                    literals.add(instruction.substring(literalStart, i));
+                    directives.add(directive);
+                    i += directive.getSource().length();
+                    literalStart = i;
+                    continue;
+                }
+            }
+            i++;
+        }
+        literals.add(instruction.substring(literalStart));
+
+        return new Instruction(literals.toArray(new String[0]), directives.toArray(new Directive[0]));
+    }
+
+    /**
+     * 解析单独的一个方法字符串，例如：@integer(1,100)
+     *
+     * @param methodStr 方法字符串
+     * @return 方法，如果字符串开头不是一个已知的方法则返回null
+     */
+    static Directive lexDirective(String methodStr) {
+        if (methodStr.isEmpty() || methodStr.charAt(0) != '@') {
+            return null;
+        }
+        return lexDirective(getNameTrie(), methodStr, 0);
+    }
+
+    /**
+     * 从'@'的位置开始解析一个方法
+     */
+    private static Directive lexDirective(NameTrie trie, String str, int at) {
+        int nameEnd = trie.longestMatch(str, at + 1);
+        if (nameEnd < 0) {
+            return null;
+        }
+        String name = str.substring(at + 1, nameEnd);
+        int end = nameEnd;
+        Object[] args = NO_ARGS;
+        //方法名后面紧跟括号的时候解析参数，括号没有闭合则视为无参方法
+        if (end < str.length() && str.charAt(end) == '(') {
+            List<Object> argList = new ArrayList<>(2);
+            int argsEnd = lexArgs(str, end, argList);
+            if (argsEnd > 0) {
+                args = argList.toArray();
+                end = argsEnd;
+            }
+        }
+        return new Directive(str.substring(at, end), name, args);
+    }
+
+    /**
+     * 解析括号中的参数
+     *
+     * @param str  字符串
+     * @param open 左括号的位置
+     * @param args 保存参数的集合
+     * @return 右括号之后的位置，如果括号没有闭合，返回-1
+     */
+    private static int lexArgs(String str, int open, List<Object> args) {
+        int length = str.length();
+        int i = open + 1;
+        while (true) {
+            i = skipSpace(str, i);
+            if (i >= length) {
+                return -1;
+            }
+            char c = str.charAt(i);
+            if (c == '\'' || c == '"') {
+                //引号参数，结束的引号后面只能是逗号或者右括号
+                int close = findCloseQuote(str, i + 1, c);
+                if (close < 0) {
+                    return -1;
+                }
+                String arg = str.substring(i + 1, close);
+                if (!arg.isEmpty()) {
+                    args.add(arg);
+                }
+                i = skipSpace(str, close + 1);
+            } else {
+                //普通参数，允许嵌套的括号
+                int depth = 0;
+                int start = i;
+                for (; i < length; i++) {
+                    char ch = str.charAt(i);
+                    if (ch == '(') {
+                        depth++;
+                    } else if (ch == ')') {
+                        if (depth == 0) {
+                            break;
+                        }
+                        depth--;
+                    } else if (ch == ',' && depth == 0) {
+                        break;
+                    }
+                }
+                if (i >= length) {
+                    return -1;
+                }
+                String arg = str.substring(start, i).trim();
+                if (!arg.isEmpty()) {
+                    args.add(typed(arg));
+                }
+            }
+            //此时只可能是逗号或者右括号
+            char next = str.charAt(i);
+            if (next == ')') {
+                return i + 1;
+            }
+            if (next != ',') {
+                return -1;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * 寻找结束的引号，结束引号之后（忽略空格）必须是逗号或右括号
+     */
+    private static int findCloseQuote(String str, int from, char quote) {
+        int length = str.length();
+        for (int i = from; i < length; i++) {
+            if (str.charAt(i) == quote) {
+                int next = skipSpace(str, i + 1);
+                if (next < length && (str.charAt(next) == ',' || str.charAt(next) == ')')) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpace(String str, int i) {
+        int length = str.length();
+        while (i < length && str.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 将没有引号的参数转化为对应的类型：整数、小数、布尔值，其余情况保持字符串。
+     * 只有转化后再转为字符串仍与原文相同时才进行转化，例如 007 与 1.50 依然作为字符串处理。
+     */
+    private static Object typed(String arg) {
+        if ("true".equals(arg) || "false".equals(arg)) {
+            return Boolean.valueOf(arg);
+        }
+        char first = arg.charAt(0);
+        if (first != '-' && (first < '0' || first > '9')) {
+            return arg;
+        }
+        try {
+            if (arg.indexOf('.') < 0) {
+                long value = Long.parseLong(arg);
+                Object number = value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+                return number.toString().equals(arg) ? number : arg;
+            }
+            Double value = Double.valueOf(arg);
+            return value.toString().equals(arg) ? value : arg;
+        } catch (NumberFormatException e) {
+            return arg;
+        }
+    }
+
+    /**
+     * 获取方法名字典树
+     */
+    private static NameTrie getNameTrie() {
+        NameTrie trie = nameTrie;
+        if (trie == null) {
+            synchronized (InstructionLexer.class) {
+                trie = nameTrie;
+                if (trie == null) {
+                    nameTrie = trie = new NameTrie(Mock.getMethodRegistry().getNames());
+                }
+            }
+        }
+        return trie;
+    }
+
+    private InstructionLexer() {
+    }
+
+    /**
+     * 指令的解析结果
+     */
+    static final class Instruction {
+
+        /**
+         * 多余字符，长度必然是方法数量+1
+         */
+        private final String[] literals;
+
+        /**
+         * 方法，顺序与在指令中出现的顺序一致
+         */
+        private final Directive[] directives;
+
+        Instruction(String[] literals, Directive[] directives) {
+            this.literals = literals;
+            this.directives = directives;
+        }
+
+        boolean hasDirective() {
+            return directives.length > 0;
+        }
+
+        Directive[] getDirectives() {
+            return directives;
+        }
+
+        String[] getLiterals() {
+            return literals;
+        }
+
+        /**
+         * 获取多余字符，如果全部为空字符串，则返回一个空数组
+         */
+        String[] getMoreStrs() {
+            for (String literal : literals) {
+                if (!literal.isEmpty()) {
+                    return literals;
+                }
+            }
+            return new String[0];
+        }
+    }
+
+    /**
+     * 指令中的一个方法
+     */
+    static final class Directive {
+
+        /**
+         * 方法在指令中的原文
+         */
+        private final String source;
+
+        /**
+         * 方法名称
+         */
+        private final String name;
+
+        /**
+         * 参数，元素类型为String、Integer、Long、Double或Boolean
+         */
+        private final Object[] args;
+
+        Directive(String source, String name, Object[] args) {
+            this.source = source;
+            this.name = name;
+            this.args = args;
+        }
+
+        String getSource() {
+            return source;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Object[] getArgs() {
+            return args;
+        }
+
+        @Override
+        public String toString() {
+            return source;
+        }
+    }
+
+    /**
+     * 方法名字典树，每个节点的子节点按字符排序，使用二分查找
+     */
+    static final class NameTrie {
+
+        private final Node root;
+
+        NameTrie(Collection<String> names) {
+            Map<Character, Object> tree = new TreeMap<>();
+            for (String name : names) {
+                if (!name.isEmpty()) {
+                    put(tree, name);
+                }
+            }
+            root = freeze(tree);
+        }
+
+        /**
+         * 从指定位置开始进行最长匹配
+         *
+         * @return 匹配到的方法名的结束位置，没有匹配则返回-1
+         */
+        int longestMatch(String str, int from) {
+            Node node = root;
+            int matched = -1;
+            int length = str.length();
+            for (int i = from; i < length; i++) {
+                node = node.child(str.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    matched = i + 1;
+                }
+            }
+            return matched;
+        }
+
+        /** 结束标记 */
+        private static final Character END = '\0';
+
+        @SuppressWarnings("unchecked")
+        private static void put(Map<Character, Object> tree, String name) {
+            Map<Character, Object> current = tree;
+            for (int i = 0; i < name.length(); i++) {
+                current = (Map<Character, Object>) current.computeIfAbsent(name.charAt(i), k -> new TreeMap<Character, Object>());
+            }
+            current.put(END, Boolean.TRUE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Node freeze(Map<Character, Object> tree) {
+            boolean isTerminal = false;
+            List<Character> keys = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+            for (Map.Entry<Character, Object> entry : tree.entrySet()) {
+                if (END.equals(entry.getKey())) {
+                    isTerminal = true;
+                    continue;
+                }
+                Map<Character, Object> child = (Map<Character, Object>) entry.getValue();
+                keys.add(entry.getKey());
+                children.add(freeze(child));
+            }
+            char[] keyArr = new char[keys.size()];
+            for (int i = 0; i < keyArr.length; i++) {
+                keyArr[i] = keys.get(i);
+            }
+            return new Node(keyArr, children.toArray(new Node[0]), isTerminal);
+        }
+
+        private static final class Node {
+            private final char[] keys;
+            private final Node[] children;
+            private final boolean terminal;
+
+            private Node(char[] keys, Node[] children, boolean terminal) {
+                this.keys = keys;
+                this.children = children;
+                this.terminal = terminal;
+            }
+
+            private Node child(char c) {
+                int index = Arrays.binarySearch(keys, c);
+                return index < 0 ? null : children[index];
+            }
+        }
+    }
+}
@@ -42,15 +42,13 @@ class InstructionParser extends BaseFieldParser {
 
         //解析指令,查找指令中的@方法
         //先判断是否有匹配的方法
-        boolean match = match(instructionStr);
-        if (match) {
+        InstructionLexer.Instruction instruction = lex(instructionStr);
+        if (instruction.hasDirective()) {
             //如果指令中有方法
-            //解析出方法名
-            String[] methods = getMethods(instructionStr);
             //解析方法并获取方法执行者
-            List<Invoker> invoker = getMethodInvoker(methods);
+            List<Invoker> invoker = getMethodInvoker(instruction.getDirectives());
             //获取多余字符
-            String[] methodsSplit = getMethodsSplit(instructionStr);
+            String[] methodsSplit = instruction.getMoreStrs();
             //获取list类型字段值获取器
             fieldValueGetter = getArrayFieldValueGetter(invoker, methodsSplit);
 
@@ -87,15 +85,13 @@ class InstructionParser extends BaseFieldParser {
 
         //解析指令,查找指令中的@方法
         //先判断是否有匹配的方法
-        boolean match = match(instructionStr);
-        if (match) {
+        InstructionLexer.Instruction instruction = lex(instructionStr);
+        if (instruction.hasDirective()) {
             //如果指令中有方法
-            //解析出方法名
-            String[] methods = getMethods(instructionStr);
             //解析方法并获取方法执行者
-            List<Invoker> invoker = getMethodInvoker(methods);
+            List<Invoker> invoker = getMethodInvoker(instruction.getDirectives());
             //获取多余字符
-            String[] methodsSplit = getMethodsSplit(instructionStr);
+            String[] methodsSplit = instruction.getMoreStrs();
             //获取list类型字段值获取器
             fieldValueGetter = getListFieldValueGetter(invoker, methodsSplit);
 
@@ -145,18 +141,14 @@ class InstructionParser extends BaseFieldParser {
 
         //解析指令,查找指令中的@方法
         //先判断是否有匹配的方法
-        boolean match = match(instructionStr);
-        if (match) {
+        InstructionLexer.Instruction instruction = lex(instructionStr);
+        if (instruction.hasDirective()) {
             //如果存在指令方法
-            //解析出方法名
-            String[] methods = getMethods(instructionStr);
-            //如果有方法，解析方法，解析参数-由于做过判断，所以此处必然有方法
-
             //解析方法并获取方法执行者
-            List<Invoker> invoker = getMethodInvoker(methods);
+            List<Invoker> invoker = getMethodInvoker(instruction.getDirectives());
 
             //获取多余字符
-            String[] methodsSplit = getMethodsSplit(instructionStr);
+            String[] methodsSplit = instruction.getMoreStrs();
             //如果参数多余字符不为0，则参数类型必定为String且methodsSplit[]的长度必定为methods[]的长度+1或与methods[]的长度相等
             //则必定为字符串字段
             //有指令方法的时候，如果有区间参数，对字符串的最终输出进行重复
@@ -167,8 +159,8 @@ class InstructionParser extends BaseFieldParser {
             } else {
                 //如果没有多余字符，则字段可能不是字符串类型，
                 //判断字段的数据类型
-                if (fieldClass.equals(String.class)) {
-                    //如果是String类型的，使用StringFieldValueGetter字段值获取器
+                if (fieldClass.equals(String.class) || invoker.size() > 1) {
+                    //如果是String类型的，或者是多个方法连续拼接（例如@word@title），使用StringFieldValueGetter字段值获取器
                     fieldValueGetter = getStringFieldValueGetter(invoker);
                 } else {
                     //如果字段类型不是String，则不能用StringFieldValueGetter字段值获取器了
@@ -521,6 +521,17 @@ public class ParameterParser {
         return TYPE_OBJECT;
     }
 
+    /**
+     * 解析单条指令，获取其字段值获取器。
+     * 与{@link #parser(String, Object)}的解析结果一致，但不会为每次取值创建MockMapBean，
+     * 返回的获取器可以被缓存并重复使用。
+     *
+     * @param instruction 指令字符串
+     */
+    public static FieldValueGetter<?> parserInstruction(String instruction) {
+        return stringTypeParse(null, instruction, null, instruction).getValueGetter();
+    }
+
     public static Object parser(String key, Object value) {
         try {
             // 判断是否包含函数
@@ -0,0 +1,18 @@
+package io.metersphere.jmeter.mock.registry;
+
+/**
+ * 自定义指令方法的提供者（SPI）。<br>
+ * 在自己的jar包中实现此接口，并在 META-INF/services/io.metersphere.jmeter.mock.registry.MockMethodProvider
+ * 文件中写入实现类的全限定名，即可在Mock中使用自定义的指令，无需修改{@link io.metersphere.jmeter.mock.util.MockUtils}。<br>
+ * 与MockUtils一样，方法名即指令名，同名方法以参数数量区分；与内置指令的名称与参数数量都相同时，会覆盖内置指令。
+ */
+public interface MockMethodProvider {
+
+    /**
+     * 提供指令方法的类，其中全部的公共静态方法都会被注册为指令
+     *
+     * @return 指令方法所在的类
+     */
+    Class<?> getMethodClass();
+
+}
@@ -0,0 +1,149 @@
+package io.metersphere.jmeter.mock.registry;
+
+import io.metersphere.jmeter.mock.util.MockUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * 指令方法注册表<br>
+ * 以 方法名 + 参数数量 为索引保存全部的指令方法，查找为O(1)。<br>
+ * 内置的{@link MockUtils}最先注册，随后通过{@link ServiceLoader}加载{@link MockMethodProvider}注册自定义指令。
+ * 构建完成后不可变，可以在多个线程之间共享。
+ */
+public final class MockMethodRegistry {
+
+    private static final Logger logger = Logger.getLogger(MockMethodRegistry.class.getCanonicalName());
+
+    /**
+     * 方法名 -> 以参数数量为下标的方法数组
+     */
+    private final Map<String, Method[]> methods;
+
+    /**
+     * 格式化的方法名 -> 方法，格式：方法名(参数类型class地址，参数类型class地址.....)
+     */
+    private final Map<String, Method> signatures;
+
+    /**
+     * 根据方法名与参数数量获取方法
+     *
+     * @param name  方法名
+     * @param arity 参数数量
+     * @return 方法，不存在时返回null
+     */
+    public Method get(String name, int arity) {
+        Method[] overloads = methods.get(name);
+        if (overloads == null || arity < 0 || arity >= overloads.length) {
+            return null;
+        }
+        return overloads[arity];
+    }
+
+    /**
+     * 全部的指令名称
+     */
+    public Set<String> getNames() {
+        return methods.keySet();
+    }
+
+    /**
+     * 全部的方法，key的格式：方法名(参数类型class地址，参数类型class地址.....)
+     */
+    public Map<String, Method> getSignatures() {
+        return signatures;
+    }
+
+    /**
+     * 加载内置指令与通过SPI提供的自定义指令
+     */
+    public static MockMethodRegistry load() {
+        List<Class<?>> classes = new ArrayList<>();
+        classes.add(MockUtils.class);
+        Iterator<MockMethodProvider> iterator = ServiceLoader.load(MockMethodProvider.class, MockMethodRegistry.class.getClassLoader()).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                MockMethodProvider provider = iterator.next();
+                classes.add(provider.getMethodClass());
+            } catch (ServiceConfigurationError e) {
+                //单个提供者加载失败不影响其他指令
+                logger.log(Level.WARNING, "加载自定义Mock指令失败", e);
+            }
+        }
+        return of(classes);
+    }
+
+    /**
+     * 使用指定的类创建注册表，靠后的类中的方法会覆盖之前的同名同参数数量的方法
+     *
+     * @param classes 指令方法所在的类
+     */
+    public static MockMethodRegistry of(Collection<Class<?>> classes) {
+        Map<String, Method[]> methodMap = new HashMap<>();
+        for (Class<?> methodClass : classes) {
+            //同一个类中出现同名同参数数量的方法时只保留第一个
+            Map<String, Method[]> classMethods = new HashMap<>();
+            for (Method method : methodClass.getMethods()) {
+                //只注册公共静态方法，Object中继承来的方法都不是静态方法，不需要额外过滤
+                if (!Modifier.isStatic(method.getModifiers()) || method.isSynthetic() || method.isBridge()) {
+                    continue;
+                }
+                if (put(classMethods, method, false) != null) {
+                    logger.warning("指令方法重复，已忽略：" + method);
+                }
+            }
+            for (Method[] overloads : classMethods.values()) {
+                for (Method method : overloads) {
+                    if (method != null && put(methodMap, method, true) != null) {
+                        logger.info("指令方法被覆盖：" + method);
+                    }
+                }
+            }
+        }
+        return new MockMethodRegistry(methodMap);
+    }
+
+    /**
+     * 以参数数量为下标保存方法
+     *
+     * @param override 已经存在同名同参数数量的方法时是否覆盖
+     * @return 已经存在的同名同参数数量的方法，没有时返回null
+     */
+    private static Method put(Map<String, Method[]> methodMap, Method method, boolean override) {
+        int arity = method.getParameterCount();
+        Method[] overloads = methodMap.get(method.getName());
+        if (overloads == null) {
+            overloads = new Method[arity + 1];
+        } else if (overloads.length <= arity) {
+            overloads = Arrays.copyOf(overloads, arity + 1);
+        }
+        Method exists = overloads[arity];
+        if (exists == null || override) {
+            overloads[arity] = method;
+            methodMap.put(method.getName(), overloads);
+        }
+        return exists;
+    }
+
+    private MockMethodRegistry(Map<String, Method[]> methodMap) {
+        this.methods = Collections.unmodifiableMap(methodMap);
+        this.signatures = Collections.unmodifiableMap(methodMap.values().stream()
+                .flatMap(Arrays::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(m -> m.getName() + "("
+                        + Arrays.stream(m.getParameterTypes()).map(Class::getName).collect(Collectors.joining(","))
+                        + ")", m -> m)));
+    }
+
+    @Override
+    public String toString() {
+        return "MockMethodRegistry" + signatures.keySet();
+    }
+}
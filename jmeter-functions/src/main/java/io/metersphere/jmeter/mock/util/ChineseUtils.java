@@ -2,13 +2,16 @@ package io.metersphere.jmeter.mock.util;
 
 
 import java.nio.charset.Charset;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * 获取一个随机中文姓名 代码灵感来源于网络 讲道理，效果不是特别好 而且关于字符编码的转换也不确定处理的好
  */
 public class ChineseUtils {
-    private static final Charset GBK = Charset.forName("GBK");
+    /**
+     * GB2312一级汉字（按拼音排序的常用字，共3755个），类加载时一次性解码
+     */
+    private static final char[] CHINESE_CHARS = loadLevel1Chars();
 
     /**
      * 百家姓
@@ -49,52 +52,78 @@ public class ChineseUtils {
      * 获得一个随机姓氏
      */
     public static String getFamilyName() {
-        return Surname[RandomUtils.getRandom().nextInt(Surname.length)];
+        return Surname[RandomUtils.getGenerator().nextInt(Surname.length)];
     }
 
     /**
      * 获取一个随机姓名
      */
     public static String getName() {
-        ThreadLocalRandom random = RandomUtils.getRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
 
         // 获得一个随机的姓氏
         boolean two = random.nextBoolean();
-        StringBuilder nameBuilder = new StringBuilder(1 + (two ? 2 : 1)).append(getFamilyName());
+        StringBuilder nameBuilder = new StringBuilder(2 + (two ? 2 : 1)).append(getFamilyName());
         /* 从常用字中选取一个或两个字作为名 */
-        if (two) {
-            nameBuilder.append(getChinese()).append(getChinese());
-        } else {
-            nameBuilder.append(getChinese());
-        }
-        return nameBuilder.toString();
+        return appendChinese(nameBuilder, two ? 2 : 1).toString();
     }
 
     /**
      * 获取一个随机汉字
      */
     public static String getChinese() {
-        ThreadLocalRandom random = RandomUtils.getRandom();
-        byte[] bArr = new byte[2];
-        //区码，0xA0打头，从第16区开始，即0xB0=11*16=176,16~55一级汉字，56~87二级汉字
-        // 176 ~ random(0~39)
-        bArr[0] = (byte) random.nextInt(176, 176 + 39);
-        //位码，0xA0打头，范围第1~94列
-        // 161 ~ random(0~92)
-        bArr[1] = (byte) random.nextInt(161, 161 + 93);
-        // 区位码组合成汉字
-        return new String(bArr, GBK);
+        return String.valueOf(CHINESE_CHARS[RandomUtils.getGenerator().nextInt(CHINESE_CHARS.length)]);
     }
 
     /**
      * 获取一个随机汉字
      */
     public static String getChinese(int num) {
-        StringBuilder sb = new StringBuilder(num);
+        if (num <= 0) {
+            return "";
+        }
+        RandomGenerator random = RandomUtils.getGenerator();
+        char[] chars = new char[num];
+        for (int i = 0; i < num; i++) {
+            chars[i] = CHINESE_CHARS[random.nextInt(CHINESE_CHARS.length)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 向StringBuilder中追加指定数量的随机汉字
+     */
+    public static StringBuilder appendChinese(StringBuilder sb, int num) {
+        RandomGenerator random = RandomUtils.getGenerator();
         for (int i = 0; i < num; i++) {
-            sb.append(getChinese());
+            sb.append(CHINESE_CHARS[random.nextInt(CHINESE_CHARS.length)]);
+        }
+        return sb;
+    }
+
+    /**
+     * 解码GB2312一级汉字：区码0xB0~0xD7（第16~55区），位码0xA1~0xFE（第1~94位），
+     * 第55区只有前89位有汉字，解码后只保留CJK统一汉字
+     */
+    private static char[] loadLevel1Chars() {
+        Charset gbk = Charset.forName("GBK");
+        byte[] bytes = new byte[(0xD7 - 0xB0 + 1) * (0xFE - 0xA1 + 1) * 2];
+        int index = 0;
+        for (int high = 0xB0; high <= 0xD7; high++) {
+            for (int low = 0xA1; low <= 0xFE; low++) {
+                bytes[index++] = (byte) high;
+                bytes[index++] = (byte) low;
+            }
+        }
+        String decoded = new String(bytes, gbk);
+        StringBuilder chars = new StringBuilder(decoded.length());
+        for (int i = 0; i < decoded.length(); i++) {
+            char c = decoded.charAt(i);
+            if (Character.UnicodeBlock.of(c) == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS) {
+                chars.append(c);
+            }
         }
-        return sb.toString();
+        return chars.toString().toCharArray();
     }
 
     /**
@@ -1,9 +1,12 @@
 package io.metersphere.jmeter.mock.util;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.StreamSupport;
 
 /**
  *
@@ -11,6 +14,16 @@ import java.util.stream.Collector;
  */
 public class CollectorUtils {
 
+    /**
+     * 并行前先串行获取的数量，用于估算单个值的耗时
+     */
+    private static final int PROBE_SIZE = 64;
+
+    /**
+     * 估算的剩余耗时低于此值时继续串行，拆分与合并的开销会超过并行的收益
+     */
+    private static final long PARALLEL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     /**
      * 在非stream环境下使用{@link Collector}
      * @param num           获取数量
@@ -48,4 +61,51 @@ public class CollectorUtils {
         return collector.finisher().apply(container);
     }
 
+    /**
+     * 在非stream环境下并行使用{@link Collector}<br>
+     * 并行发生在值与值之间：先串行获取一小部分并估算耗时，剩余部分耗时较少时继续串行，
+     * 否则由{@link MockSpliterator}按数量拆分为若干批次，每个批次串行获取到自己的容器中，最后合并。
+     *
+     * @param num       获取数量
+     * @param getter    单值获取器，需要可以在多个线程中同时调用
+     * @param collector 收集器
+     */
+    public static <T, A, R> R parallelCollector(int num, Supplier<T> getter, Collector<? super T, A, R> collector) {
+        return parallelCollector(num, getter, t -> t, collector);
+    }
+
+    /**
+     * 在非stream环境下并行使用{@link Collector}，见{@link #parallelCollector(int, Supplier, Collector)}
+     *
+     * @param num       获取数量
+     * @param getter    单值获取器，需要可以在多个线程中同时调用
+     * @param mapper    转化器
+     * @param collector 收集器
+     */
+    public static <T, A, N, R> N parallelCollector(int num, Supplier<T> getter, Function<? super T, ? extends R> mapper, Collector<? super R, A, N> collector) {
+        BiConsumer<A, ? super R> accumulator = collector.accumulator();
+        A container = collector.supplier().get();
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int probe = parallelism > 1 ? Math.min(num, PROBE_SIZE) : num;
+        long start = System.nanoTime();
+        for (int i = 0; i < probe; i++) {
+            accumulator.accept(container, mapper.apply(getter.get()));
+        }
+        int remaining = num - probe;
+        if (remaining > 0) {
+            double nanosPerValue = (System.nanoTime() - start) / (double) probe;
+            if (nanosPerValue * remaining < PARALLEL_THRESHOLD_NANOS) {
+                for (int i = 0; i < remaining; i++) {
+                    accumulator.accept(container, mapper.apply(getter.get()));
+                }
+            } else {
+                A rest = StreamSupport.stream(new MockSpliterator<>(getter, remaining), true).map(mapper).collect(
+                        Collector.of(collector.supplier(), accumulator, collector.combiner()));
+                container = collector.combiner().apply(container, rest);
+            }
+        }
+        // 获取结果
+        return collector.finisher().apply(container);
+    }
+
 }
@@ -0,0 +1,319 @@
+package io.metersphere.jmeter.mock.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.time.temporal.WeekFields;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 日期时间工具类<br>
+ * 基于java.time，时间统一以毫秒时间戳表示，格式化器按照格式缓存，线程安全。<br>
+ * 格式按照{@link java.text.SimpleDateFormat}的含义解析，与之前的版本保持一致，见{@link #getFormatter(String)}。
+ */
+public final class DateUtils {
+
+    /**
+     * 缓存格式化器的最大数量，超过后不再缓存新的格式
+     */
+    private static final int MAX_FORMATTER_CACHE_SIZE = 256;
+
+    /**
+     * 格式 -> 使用系统默认时区的格式化器
+     */
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * 格式 -> 当前时间的缓存
+     */
+    private static final Map<String, NowClock> CLOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * 随机时间的默认起点：1990-01-01 00:00:00
+     */
+    public static final long DEFAULT_RANDOM_FROM = LocalDate.of(1990, 1, 1)
+            .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    private DateUtils() {
+    }
+
+    /**
+     * 获取格式对应的格式化器，同一个格式只创建一次<br>
+     * 格式按照{@link java.text.SimpleDateFormat}的含义解析：u为星期几（1为星期一），S为毫秒数，
+     * Z为+HHmm格式的时区偏移，数字字段的字母个数为最小位数，其他符号都是普通字符。
+     * SimpleDateFormat不支持的字母按{@link DateTimeFormatter}的含义解析。
+     *
+     * @param pattern 格式，例如 yyyy-MM-dd HH:mm:ss
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = ofSimplePattern(pattern).withZone(ZoneId.systemDefault());
+            if (FORMATTERS.size() < MAX_FORMATTER_CACHE_SIZE) {
+                FORMATTERS.putIfAbsent(pattern, formatter);
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * 将SimpleDateFormat的格式转换为等价的格式化器
+     */
+    static DateTimeFormatter ofSimplePattern(String pattern) {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                i = appendQuoted(builder, pattern, i);
+                continue;
+            }
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                builder.appendLiteral(c);
+                i++;
+                continue;
+            }
+            int count = 1;
+            while (i + count < length && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            appendLetters(builder, c, count);
+            i += count;
+        }
+        return builder.toFormatter();
+    }
+
+    /**
+     * 引号中的内容作为普通字符，两个连续的单引号表示一个单引号
+     *
+     * @return 引号结束后的位置
+     */
+    private static int appendQuoted(DateTimeFormatterBuilder builder, String pattern, int start) {
+        int i = start + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '\'') {
+            builder.appendLiteral('\'');
+            return i + 1;
+        }
+        StringBuilder text = new StringBuilder();
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    text.append('\'');
+                    i += 2;
+                    continue;
+                }
+                i++;
+                break;
+            }
+            text.append(c);
+            i++;
+        }
+        builder.appendLiteral(text.toString());
+        return i;
+    }
+
+    private static void appendLetters(DateTimeFormatterBuilder builder, char letter, int count) {
+        switch (letter) {
+            case 'y':
+                if (count == 2) {
+                    builder.appendPattern("yy");
+                } else {
+                    appendNumber(builder, ChronoField.YEAR_OF_ERA, count);
+                }
+                break;
+            case 'M':
+            case 'L':
+                if (count >= 4) {
+                    builder.appendText(ChronoField.MONTH_OF_YEAR, TextStyle.FULL);
+                } else if (count == 3) {
+                    builder.appendText(ChronoField.MONTH_OF_YEAR, TextStyle.SHORT);
+                } else {
+                    appendNumber(builder, ChronoField.MONTH_OF_YEAR, count);
+                }
+                break;
+            case 'E':
+                builder.appendText(ChronoField.DAY_OF_WEEK, count >= 4 ? TextStyle.FULL : TextStyle.SHORT);
+                break;
+            case 'u':
+                appendNumber(builder, ChronoField.DAY_OF_WEEK, count);
+                break;
+            case 'd':
+                appendNumber(builder, ChronoField.DAY_OF_MONTH, count);
+                break;
+            case 'D':
+                appendNumber(builder, ChronoField.DAY_OF_YEAR, count);
+                break;
+            case 'F':
+                appendNumber(builder, ChronoField.ALIGNED_WEEK_OF_MONTH, count);
+                break;
+            case 'w':
+                appendNumber(builder, WeekFields.of(Locale.getDefault(Locale.Category.FORMAT)).weekOfWeekBasedYear(), count);
+                break;
+            case 'W':
+                appendNumber(builder, WeekFields.of(Locale.getDefault(Locale.Category.FORMAT)).weekOfMonth(), count);
+                break;
+            case 'a':
+                builder.appendPattern("a");
+                break;
+            case 'H':
+                appendNumber(builder, ChronoField.HOUR_OF_DAY, count);
+                break;
+            case 'k':
+                appendNumber(builder, ChronoField.CLOCK_HOUR_OF_DAY, count);
+                break;
+            case 'K':
+                appendNumber(builder, ChronoField.HOUR_OF_AMPM, count);
+                break;
+            case 'h':
+                appendNumber(builder, ChronoField.CLOCK_HOUR_OF_AMPM, count);
+                break;
+            case 'm':
+                appendNumber(builder, ChronoField.MINUTE_OF_HOUR, count);
+                break;
+            case 's':
+                appendNumber(builder, ChronoField.SECOND_OF_MINUTE, count);
+                break;
+            case 'S':
+                appendNumber(builder, ChronoField.MILLI_OF_SECOND, count);
+                break;
+            case 'G':
+                builder.appendPattern("G");
+                break;
+            case 'z':
+                builder.appendZoneText(count >= 4 ? TextStyle.FULL : TextStyle.SHORT);
+                break;
+            case 'Z':
+                builder.appendOffset("+HHMM", "+0000");
+                break;
+            default:
+                //Y、X以及SimpleDateFormat不支持的字母
+                builder.appendPattern(String.valueOf(letter).repeat(count));
+        }
+    }
+
+    /**
+     * 数字字段，字母个数为最小位数，不足时补0
+     */
+    private static void appendNumber(DateTimeFormatterBuilder builder, TemporalField field, int count) {
+        builder.appendValue(field, Math.min(count, 19), 19, SignStyle.NORMAL);
+    }
+
+    /**
+     * 格式化时间戳
+     *
+     * @param pattern     格式
+     * @param epochMillis 毫秒时间戳
+     */
+    public static String format(String pattern, long epochMillis) {
+        return getFormatter(pattern).format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * 格式化当前时间<br>
+     * 每种格式缓存最近一次的结果，在格式的精度（秒或毫秒）内时间没有变化时直接返回缓存的结果
+     *
+     * @param pattern 格式
+     */
+    public static String now(String pattern) {
+        NowClock clock = CLOCKS.get(pattern);
+        if (clock == null) {
+            clock = new NowClock(getFormatter(pattern), resolution(pattern));
+            if (CLOCKS.size() < MAX_FORMATTER_CACHE_SIZE) {
+                NowClock exists = CLOCKS.putIfAbsent(pattern, clock);
+                if (exists != null) {
+                    clock = exists;
+                }
+            }
+        }
+        return clock.now();
+    }
+
+    /**
+     * 获取格式的精度：包含秒以下的字段（S、n、N、A）时为1毫秒，否则为1秒，引号中的内容不计算在内
+     *
+     * @return 精度，单位毫秒
+     */
+    static long resolution(String pattern) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return 1;
+            }
+        }
+        return 1000;
+    }
+
+    /**
+     * 获取1990年至今之间的随机时间戳<br>
+     * 指定了随机数种子时截止到{@link RandomSource#EPOCH_PROPERTY}指定日期的0点，不依赖当前时间，任何时候重复执行的结果都相同
+     */
+    public static long randomMillis() {
+        long to = System.currentTimeMillis();
+        if (RandomSource.seed() != null) {
+            to = LocalDate.ofEpochDay(RandomSource.today()).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        return randomMillis(DEFAULT_RANDOM_FROM, to);
+    }
+
+    /**
+     * 获取[from, to]之间的随机时间戳
+     *
+     * @param from 起始毫秒时间戳
+     * @param to   结束毫秒时间戳
+     */
+    public static long randomMillis(long from, long to) {
+        if (from >= to) {
+            return from;
+        }
+        return RandomSource.current().nextLong(from, to + 1);
+    }
+
+    /**
+     * 当前时间的缓存，保存最近一次格式化的结果，通过volatile引用发布
+     */
+    private static final class NowClock {
+        private final DateTimeFormatter formatter;
+        private final long resolution;
+        private volatile Stamp stamp = new Stamp(Long.MIN_VALUE, null);
+
+        private NowClock(DateTimeFormatter formatter, long resolution) {
+            this.formatter = formatter;
+            this.resolution = resolution;
+        }
+
+        private String now() {
+            long millis = System.currentTimeMillis();
+            long tick = Math.floorDiv(millis, resolution);
+            Stamp current = stamp;
+            if (current.tick == tick) {
+                return current.text;
+            }
+            String text = formatter.format(Instant.ofEpochMilli(millis));
+            stamp = new Stamp(tick, text);
+            return text;
+        }
+    }
+
+    private static final class Stamp {
+        private final long tick;
+        private final String text;
+
+        private Stamp(long tick, String text) {
+            this.tick = tick;
+            this.text = text;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.metersphere.jmeter.mock.util;
 
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -10,14 +11,14 @@ import java.util.stream.Collectors;
  */
 public class FieldUtils {
     /**
-     * 单层字段缓存记录，使用线程安全map
+     * 每个类的字段访问表，首次使用时创建，之后由ClassValue保存，不需要额外的同步
      */
-    private static final Map<Class<?>, HashMap<String, SingleCacheField>> SINGLE_FIELD_CACHE_MAP = Collections.synchronizedMap(new HashMap<>());
-
-    /**
-     * 多层字段缓存记录，使用线程安全map
-     */
-    private static final Map<Class<?>, HashMap<String, LevelCacheField>> LEVEL_FIELD_CACHE_MAP = Collections.synchronizedMap(new HashMap<>());
+    private static final ClassValue<AccessorTable> ACCESSOR_TABLES = new ClassValue<AccessorTable>() {
+        @Override
+        protected AccessorTable computeValue(Class<?> type) {
+            return new AccessorTable(type);
+        }
+    };
 
 
     /**
@@ -27,35 +28,8 @@ public class FieldUtils {
      * @param fieldName
      */
     public static Field fieldGetter(Class<?> c, String fieldName) {
-        //先进行缓存判断,如果缓存中有记录，直接返回
-        CacheField cacheField = getCacheField(c, fieldName);
-        if (cacheField != null) {
-            return cacheField.getField();
-        }
-
-        //可以获取多级字段的字段对象
-        //使用'.'切割字段名
-        String[] split = fieldName.split("\\.");
-        if (split.length == 1) {
-            //如果长度为1，则说明只有一级字段，直接获取字段对象
-            return getField(c, fieldName);
-        } else {
-            //如果不是1，则说明不止1层字段值
-            //当前字段名
-            String thisFieldName = split[0];
-            //剩下的字段名称拼接
-            //移除第一个字段
-            List<String> list = Arrays.stream(split).collect(Collectors.toList());
-            list.remove(0);
-            //拼接剩余
-            String otherFieldName = String.join(".", list);
-            //递归获取
-            //多层级也计入缓存
-            Field field = fieldGetter(getFieldClass(c, thisFieldName), otherFieldName);
-            //计入缓存
-            saveSingleCacheField(c, field, null, null);
-            return field;
-        }
+        FieldPath path = ACCESSOR_TABLES.get(c).path(fieldName);
+        return path.isResolved() ? path.last().field : null;
     }
 
     /**
@@ -70,23 +44,7 @@ public class FieldUtils {
      * 获取字段的getter方法,单层级
      */
     public static Method getFieldGetter(Class<?> whereIn, String fieldName) {
-        //先查询缓存
-        Method cacheGetter = getCacheFieldGetter(whereIn, fieldName);
-        if (cacheGetter != null) {
-            return cacheGetter;
-        }
-
-        //获取getter方法
-        try {
-            Method getter = whereIn.getMethod("get" + headUpper(fieldName));
-            //计入缓存
-            saveSingleCacheFieldGetter(whereIn, fieldName, getter);
-            //返回结果
-            return getter;
-        } catch (NoSuchMethodException e) {
-            //如果出现异常，返回null
-            return null;
-        }
+        return ACCESSOR_TABLES.get(whereIn).accessor(fieldName).getter;
     }
 
     /**
@@ -107,7 +65,6 @@ public class FieldUtils {
         return getFieldGetter(obj.getClass(), field);
     }
 
-
     /**
      * 获取字段的getter方法
      */
@@ -120,26 +77,7 @@ public class FieldUtils {
      * 获取字段的setter方法
      */
     public static Method getFieldSetter(Class<?> whereIn, String fieldName) {
-        //先查询缓存中是否存在
-        Method cacheSetter = getCacheFieldSetter(whereIn, fieldName);
-        if (cacheSetter != null) {
-            return cacheSetter;
-        }
-
-
-        try {
-            //获取这个字段的Field对象
-            Field field = getField(whereIn, fieldName);
-            // whereIn.getDeclaredField(fieldName);
-            Method setter = whereIn.getMethod("set" + headUpper(fieldName), field.getType());
-            //计入缓存
-            saveSingleCacheFieldSetter(whereIn, fieldName, setter);
-            //返回
-            return setter;
-        } catch (NoSuchMethodException e) {
-            //如果出现异常，返回null
-            return null;
-        }
+        return ACCESSOR_TABLES.get(whereIn).accessor(fieldName).setter;
     }
 
     /**
@@ -149,23 +87,7 @@ public class FieldUtils {
      * @param field
      */
     public static Method getFieldSetter(Class<?> whereIn, Field field) {
-        //先查询缓存
-        Method cacheFieldSetter = getCacheFieldSetter(whereIn, field.getName());
-        if (cacheFieldSetter != null) {
-            return cacheFieldSetter;
-        }
-
-        try {
-            // a public method
-            Method setter = whereIn.getMethod("set" + headUpper(field.getName()), field.getType());
-            //计入缓存
-            saveSingleCacheFieldSetter(whereIn, field, setter);
-            //返回结果
-            return setter;
-        } catch (NoSuchMethodException e) {
-            //如果出现异常，返回null
-            return null;
-        }
+        return getFieldSetter(whereIn, field.getName());
     }
 
     /**
@@ -187,121 +109,34 @@ public class FieldUtils {
      * 获取字段的getter方法，支持多层级获取
      */
     public static Method fieldGetterGetter(Class<?> objClass, String fieldName) throws NoSuchMethodException {
-        //判断是否有用“.”分割
-        String[] split = fieldName.split("\\.");
-        //如果分割后只有一个字段值，说明是单层
-        if (split.length == 1) {
-            //获取其get方法,返回执行结果
-            Method getter = getFieldGetter(objClass, fieldName);
-            if (getter == null) {
-                //抛出没有此方法异常
-                throw new NoSuchMethodException("没有找到类[" + objClass + "]字段[" + fieldName + "]的getter方法");
+        FieldPath path = ACCESSOR_TABLES.get(objClass).path(fieldName);
+        if (!path.isResolved()) {
+            throw new NoSuchMethodException("没有找到类[" + objClass + "]字段[" + fieldName + "]的getter方法");
+        }
+        for (FieldAccessor accessor : path.accessors) {
+            if (accessor.getter == null) {
+                throw accessor.noGetter();
             }
-            //返回获取结果
-            return getter;
-        } else {
-            //否则为多层级，深入获取
-            //获取第一个字段名，拼接其余字段名并进行递归处理
-            String field = split[0];
-            //移除第一个字段
-            List<String> list = Arrays.stream(split).collect(Collectors.toList());
-            list.remove(0);
-            //拼接剩余
-            String innerFieldName = String.join(".", list);
-
-            //递归
-            return fieldGetterGetter(fieldGetterGetter(objClass, field).getReturnType(), innerFieldName);
         }
+        //返回获取结果
+        return path.last().getter;
     }
 
     /**
      * 通过对象的getter获取字段数值
      * 支持类似“user.child”这种多层级的获取方式
-     * 获取的字段必须有其对应的公共get方法
+     * 获取的字段必须有其对应的公共get方法，中间层级的值为null时返回null
      */
     public static Object objectGetter(Object t, String fieldName) throws IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-        return objectGetter(t, t, fieldName, fieldName, 1);
-    }
-
-    /**
-     * 通过对象的getter获取字段数值
-     * 支持类似“user.child”这种多层级的获取方式
-     * 获取的字段必须有其对应的公共get方法
-     *
-     * @param t         被获取的对象
-     * @param fieldName 字段名
-     */
-    private static Object objectGetter(Object t, Object root, String fieldName, String realFieldName, int level) throws SecurityException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException {
-
-        //先查询缓存
-        CacheField cacheField = getCacheField(t.getClass(), fieldName);
-        if (cacheField != null) {
-            //如果有缓存，获取执行结果
-            InvokeResult invokeResult = cacheField.fieldValue(t);
-            boolean success = invokeResult.isSuccess();
-            if (success) {
-                return invokeResult.getInvoke();
+        FieldPath path = ACCESSOR_TABLES.get(t.getClass()).path(fieldName);
+        Object value = t;
+        for (int i = 0; i < path.names.length; i++) {
+            if (value == null) {
+                return null;
             }
+            value = path.getter(i, value).get(value);
         }
-
-        //判断是否有用“.”分割
-        String[] split = fieldName.split("\\.");
-        //如果分割后只有一个字段值，直接返回
-        if (split.length == 1) {
-
-            //获取其get方法,返回执行结果
-            Method getter = getFieldGetter(t, fieldName);
-            if (getter == null) {
-                //抛出没有此方法异常
-                throw new NoSuchMethodException("没有找到类[" + t.getClass() + "]字段[" + fieldName + "]的getter方法");
-            }
-            //计入单缓存-当前
-            SingleCacheField<?> singleCacheField = saveSingleCacheFieldGetter(t.getClass(), fieldName, getter);
-
-            //如果层数等级与真实字段相同且等级不为1,说明这是多层级字段的最终字段，保存
-            if (level != 1 && level == realFieldName.split("\\.").length) {
-                saveLevelCacheField(root.getClass(), realFieldName, singleCacheField);
-            }
-
-
-            //返回执行结果
-            return getter.invoke(t);
-        } else {
-            //否则为多层级字段,获取第一个字段名，拼接其余字段名并进行递归处理
-            String field = split[0];
-            //移除第一个字段
-            List<String> list = Arrays.stream(split).collect(Collectors.toList());
-            list.remove(0);
-            //拼接剩余
-            String innerFieldName = String.join(".", list);
-
-
-            /*
-                以下的getter获取方法均为当前字段的，即field字段
-             */
-
-            //获取其get方法,返回执行结果
-            Method getter = getFieldGetter(t, field);
-            if (getter == null) {
-                //抛出没有此方法异常
-                throw new NoSuchMethodException("没有找到类[" + t.getClass() + "]字段[" + field + "]的getter方法");
-            }
-
-            //计入单缓存-当前-同时将getter方法提前计入缓存
-            SingleCacheField<?> singleCacheField = saveSingleCacheFieldGetter(t.getClass(), field, getter);
-
-
-            //此字段的实例对象-直接使用与上面相同的方式获取执行结果而不是使用自我调用
-            Object innerObject = getter.invoke(t);
-//         //计入多层级缓存-当前
-            //获取字段名-切割真实字段名
-            String levelFieldName = Arrays.stream(realFieldName.split("\\.")).limit(level).collect(Collectors.joining("."));
-            saveLevelCacheField(root.getClass(), levelFieldName, singleCacheField);
-
-
-            //field必定为单层字段，获取field对应的对象，然后使用此对象进行递归
-            return objectGetter(innerObject, root, innerFieldName, realFieldName, level + 1);
-        }
+        return value;
     }
 
 
@@ -317,132 +152,21 @@ public class FieldUtils {
      * @param value     需要赋的值
      */
     public static void objectSetter(Object t, String fieldName, Object value) throws Exception {
-        //判断是否有用“.”分割
-        String[] split = fieldName.split("\\.");
-        //如果分割后只有一个字段值，直接进行赋值
-        if (split.length == 1) {
-            //获取其set方法,返回执行结果
-            String setterName = "set" + FieldUtils.headUpper(fieldName);
-            //获取字段的setter方法
-            Method setter = getFieldSetter(t, fieldName);
-            //如果没有setter,展示异常提醒
-            // 直接抛出异常
-            if (setter == null) {
-                String error = "没有找到[" + t.getClass() + "]中的字段[" + fieldName + "]的setter[" + setterName + "]方法，无法进行赋值";
-                throw new RuntimeException(new NoSuchFieldException(error));
-            } else {
-                //赋值
-                MethodUtils.invoke(t, new Object[]{value}, setter);
-            }
-
-        } else {
-            //否则为多层级字段,获取第一个字段名，拼接其余字段名并进行递归处理
-            String field = split[0];
-            //移除第一个字段
-            List<String> list = Arrays.stream(split).collect(Collectors.toList());
-            list.remove(0);
-            //拼接剩余
-            fieldName = String.join(".", list);
-
+        FieldPath path = ACCESSOR_TABLES.get(t.getClass()).path(fieldName);
+        Object target = t;
+        int last = path.names.length - 1;
+        for (int i = 0; i < last; i++) {
             //获取下一层的对象
-            Object fieldObject = objectGetter(t, field);
+            Object fieldObject = path.getter(i, target).get(target);
             if (fieldObject == null) {
-                //如果为null，创建一个此类型的实例
-                fieldObject = getFieldClass(t, field).newInstance();
-                //并为此对象赋值
-                objectSetter(t, field, fieldObject);
+                //如果为null，创建一个此类型的实例，并为此对象赋值
+                FieldAccessor accessor = path.setter(i, target);
+                fieldObject = accessor.newInstance();
+                accessor.set(target, fieldObject);
             }
-            //寻找下一层字段
-            objectSetter(fieldObject, fieldName, value);
-        }
-    }
-
-    /**
-     * 通过对象的setter为字段赋值
-     * 支持类似“user.child”这种多层级的赋值方式
-     * 赋值的字段必须有其对应的公共set方法
-     * 如果多层级对象中有非底层级字段为null，将会尝试为其创建一个新的实例
-     */
-    private static void objectSetter(Object t, Object root, String fieldName, String realFieldName, int level, Object param) throws Exception {
-        // TODO 实现缓存的setter方法
-        // TODO 存在严重bug，此方法会导致缓存无法储存和获取，导致getter效率大幅度下降
-        //先查询缓存
-        CacheField cacheField = getCacheField(t.getClass(), fieldName);
-        if (cacheField != null) {
-            //如果有缓存，获取执行结果
-            InvokeResult invokeResult = cacheField.fieldValueSet(t, param);
-            if (invokeResult.isSuccess()) {
-                //如果赋值成功，结束方法
-                return;
-            }
-        }
-        //判断是否有用“.”分割
-        String[] split = fieldName.split("\\.");
-        //如果分割后只有一个字段值，直接进行赋值
-        if (split.length == 1) {
-            //单层字段，获取setter方法
-            Method setter = getFieldSetter(t, fieldName);
-            if (setter == null) {
-                //如果没有setter，抛出异常
-                throw new NoSuchMethodException("没有找到类[" + t.getClass() + "]字段[" + fieldName + "]的setter方法");
-            }
-
-
-            //如果有此方法，计入缓存-当前
-            SingleCacheField<?> singleCacheField = saveSingleCacheFieldSetter(t.getClass(), fieldName, setter);
-            //如果层数等级与真实字段相同且等级不为1,说明这是多层级字段的最终字段，保存
-            if (level != 1 && level == realFieldName.split("\\.").length) {
-                saveLevelCacheField(root.getClass(), realFieldName, singleCacheField);
-            }
-
-            //执行赋值
-            MethodUtils.invoke(t, new Object[]{param}, setter);
-        } else {
-            //否则为多层字段，获取第一个字段名
-            String field = split[0];
-            //移除第一个字段
-            List<String> list = Arrays.stream(split).collect(Collectors.toList());
-            list.remove(0);
-            //拼接剩余
-            String newFieldName = String.join(".", list);
-
-
-             /*
-                以下的setter获取方法均为当前字段的，即field字段
-             */
-
-            //获取其get方法和set方法,返回执行结果
-            //获取setter方法
-            Method setter = getFieldSetter(t, field);
-            if (setter == null) {
-                //抛出没有此方法异常
-                throw new NoSuchMethodException("没有找到类[" + t.getClass() + "]字段[" + field + "]的setter方法");
-            }
-
-            //计入单缓存-当前-同时将setter方法提前计入缓存
-            SingleCacheField<?> singleCacheField = saveSingleCacheFieldSetter(t.getClass(), field, setter);
-
-            //获取此字段的实例对象，使用objectGetter方法，可以省去一部计入缓存的步骤
-            Object fieldInstance = objectGetter(t, field);
-
-            //如果当前字段的值为null，赋值
-            if (fieldInstance == null) {
-                fieldInstance = getFieldClass(t, field).newInstance();
-                //为当前字段对象赋一个新的值
-                objectSetter(t, field, fieldInstance);
-
-            }
-
-            //将setter计入缓存
-            //计入多层级缓存-当前
-            //获取字段名-切割真实字段名
-            String levelFieldName = Arrays.stream(realFieldName.split("\\.")).limit(level).collect(Collectors.joining("."));
-            saveLevelCacheField(root.getClass(), levelFieldName, singleCacheField);
-
-            //寻找下一层字段
-            objectSetter(fieldInstance, root, newFieldName, realFieldName, level + 1, param);
-
+            target = fieldObject;
         }
+        path.setter(last, target).set(target, value);
     }
 
     /**
@@ -452,6 +176,13 @@ public class FieldUtils {
      * @param fieldName   字段名称
      */
     public static Field getField(Class<?> objectClass, String fieldName) {
+        return ACCESSOR_TABLES.get(objectClass).accessor(fieldName).field;
+    }
+
+    /**
+     * 反射查找类指定字段对象，找不到时在父类中查找
+     */
+    private static Field findField(Class<?> objectClass, String fieldName) {
         //反射获取全部字段
         Field[] declaredFields = objectClass.getDeclaredFields();
         //遍历寻找此字段
@@ -467,7 +198,7 @@ public class FieldUtils {
         if (field == null) {
             Class<?> parent = objectClass.getSuperclass();
             if (parent != null && !parent.equals(Object.class)) {
-                field = getField(parent, fieldName);
+                field = findField(parent, fieldName);
             }
         }
 
@@ -688,824 +419,249 @@ public class FieldUtils {
 
 
 
-    /* —————————————————————————————————————— 缓存字段接口 ———————————————————————————————————— */
+    /* —————————————————————————————————————— 字段访问表 ———————————————————————————————————— */
 
     /**
-     * 缓存字段的接口，定义获取一个缓存字段的值的方法
-     *
-     * @param <T> 字段所属的类型
+     * 一个类的字段访问表<br>
+     * 单层字段与多层级路径各保存在一个Map中，Map发布后不再修改，新增记录时复制一份新的Map替换，读取时不需要加锁
      */
-    private interface CacheField<T> {
-        /**
-         * 获取一个缓存字段的值
-         *
-         * @param object 用于获取字段值的实例
-         */
-        InvokeResult fieldValue(T object);
+    private static final class AccessorTable {
+        private final Class<?> type;
 
-        /**
-         * 为缓存字段的值赋值
-         */
-        InvokeResult fieldValueSet(T object, Object param);
+        private volatile Map<String, FieldAccessor> accessors = Collections.emptyMap();
 
-        /**
-         * 获取Getter方法
-         */
-        Method getGetter();
+        private volatile Map<String, FieldPath> paths = Collections.emptyMap();
 
-        /**
-         * 获取Setter方法
-         */
-        Method getSetter();
+        private AccessorTable(Class<?> type) {
+            this.type = type;
+        }
 
         /**
-         * 获取字段对象
+         * 获取单层字段的访问方式，字段不存在时返回的对象中全部为null
          */
-        Field getField();
-
-    }
-
-    /* —————————————————————————————————————— 单缓存字段相关方法 *基本全部为本类内部使用* ———————————————————————————————————— */
-
-
-    /**
-     * 向缓存中增加一个字段记录并返回这个新的缓存字段
-     */
-    private static <T> SingleCacheField<T> saveSingleCacheField(Class<T> fieldWhereClass, Field field, Method getter, Method setter) {
-        if (field.getName().split("\\.").length > 1) {
-            throw new RuntimeException("字段[" + field + "]并非单层字段");
-        }
-        //先查看是否有这个字段
-        SingleCacheField<T> singleCacheField = (SingleCacheField<T>) getCacheField(fieldWhereClass, field.getName());
-        if (singleCacheField != null) {
-            //如果已经有这个缓存了，查看getter和setter是否存在
-            //准备好Cache，有可能会进行更新操作
-            SingleCacheField<T> cache;
-            Method cGetter = singleCacheField.getGetter();
-            Method cSetter = singleCacheField.getSetter();
-            //判断是否更新
-            boolean isUpdate = false;
-
-            //判断getter
-            if (cGetter == null && getter != null) {
-                //getter为空，且传入的getter不为空
-                isUpdate = true;
-                cGetter = getter;
+        private FieldAccessor accessor(String name) {
+            FieldAccessor accessor = accessors.get(name);
+            if (accessor != null) {
+                return accessor;
             }
-
-            //判断setter
-            if (cSetter == null && setter != null) {
-                //setter为空，且传入的setter不为空
-                //变更状态，设置getter
-                isUpdate = true;
-                cSetter = setter;
-            }
-
-            //判断是否更新
-            if (isUpdate) {
-                cache = new SingleCacheField<T>(fieldWhereClass, field, cGetter, cSetter);
-                updateSingleCacheField(cache);
-                return cache;
+            //在锁外创建，避免与其他类的访问表互相等待
+            accessor = new FieldAccessor(type, name);
+            synchronized (this) {
+                FieldAccessor exist = accessors.get(name);
+                if (exist != null) {
+                    return exist;
+                }
+                Map<String, FieldAccessor> copy = new HashMap<>(accessors);
+                copy.put(name, accessor);
+                accessors = copy;
+                return accessor;
             }
-            //如果不需要更新，直接返回获取值
-            return singleCacheField;
-
-        } else {
-            //不存在，直接返回
-            SingleCacheField<T> newSingleCacheField = new SingleCacheField<>(fieldWhereClass, field, getter, setter);
-            updateSingleCacheField(newSingleCacheField);
-            return newSingleCacheField;
-        }
-    }
-
-    /**
-     * 向缓存中增加一个字段记录
-     * 不可使用多层级字段获取
-     *
-     * @param fieldWhereClass
-     * @param fieldName
-     * @param getter
-     * @param setter
-     */
-    private static <T> SingleCacheField<T> saveSingleCacheField(Class<T> fieldWhereClass, String fieldName, Method getter, Method setter) {
-        return saveSingleCacheField(fieldWhereClass, getField(fieldWhereClass, fieldName), getter, setter);
-    }
-
-    /**
-     * 储存一个getter方法
-     */
-    private static <T> SingleCacheField<T> saveSingleCacheFieldGetter(Class<T> fieldWhereClass, String fieldName, Method getter) {
-        return saveSingleCacheField(fieldWhereClass, fieldName, getter, null);
-    }
-
-    /**
-     * 储存一个setter方法
-     */
-    private static <T> SingleCacheField<T> saveSingleCacheFieldSetter(Class<T> fieldWhereClass, String fieldName, Method setter) {
-        return saveSingleCacheField(fieldWhereClass, fieldName, null, setter);
-    }
-
-    /**
-     * 储存一个setter方法
-     */
-    private static <T> void saveSingleCacheFieldSetter(Class<T> fieldWhereClass, Field field, Method setter) {
-        saveSingleCacheField(fieldWhereClass, field, null, setter);
-    }
-
-    /**
-     * 更新一个或新增加一个字段缓存
-     */
-    private static void updateSingleCacheField(SingleCacheField newSingleCacheField) {
-        //字段所在类的Class对象
-        Class<?> fieldWhereClassIn = newSingleCacheField.getFieldWhereClassIn();
-        //从缓存中获取整个Map集合
-        HashMap<String, SingleCacheField> cacheFields = SINGLE_FIELD_CACHE_MAP.get(fieldWhereClassIn);
-        if (cacheFields == null) {
-            //如果没有此类的相关记录
-            //获取这个类的字段总数量
-            int length = fieldWhereClassIn.getDeclaredFields().length;
-            HashMap<String, SingleCacheField> hashMap = new HashMap<>(length);
-            //保存这个增加字段并添加至缓存
-            hashMap.put(newSingleCacheField.getFieldName(), newSingleCacheField);
-            SINGLE_FIELD_CACHE_MAP.put(fieldWhereClassIn, hashMap);
-        } else {
-            //有此类相关记录，保存或覆盖此字段信息
-            cacheFields.put(newSingleCacheField.getFieldName(), newSingleCacheField);
         }
-    }
-
-
-    /**
-     * 获取缓存中的字段的getter方法
-     */
-    private static Method getCacheFieldGetter(Class<?> fieldWhereClass, String fieldName) {
-        //如果缓存中存在此字段，返回getter，否则返回null
-        return Optional.ofNullable(getCacheField(fieldWhereClass, fieldName)).map(CacheField::getGetter).orElse(null);
-    }
-
-    /**
-     * 获取缓存中字段的setter方法
-     */
-    private static Method getCacheFieldSetter(Class<?> fieldWhereClass, String fieldName) {
-        //如果缓存中存在此字段，返回getter，否则返回null
-        return Optional.ofNullable(getCacheField(fieldWhereClass, fieldName)).map(CacheField::getSetter).orElse(null);
-    }
-
-    /* ———————————————————————————————————————— 单缓存字段内部类 ———————————————————————————————————— */
-
-    /**
-     * 单层字段缓存对象
-     * 内部类，实现字段缓存，优化此工具类的效率
-     * 字段的缓存，其中储存所在类的Class对象、字段名称、字段对象、字段类型、getter、setter
-     * *虽然为公共权限，但仅仅为了使其内部类可被外部访问而设*
-     */
-    private static class SingleCacheField<T> implements CacheField<T> {
-        // 储存所在类的Class对象、字段名称、字段对象、字段类型、getter、setter
-
-        /**
-         * 字段所在Class，不可变更
-         */
-        private final Class<T> FIELD_WHERE_CLASS;
-
-        /**
-         * 字段名称
-         */
-        private final String FIELD_NAME;
-
-        /**
-         * 字段对象
-         */
-        private final Field FIELD;
-
-        /**
-         * 字段类型
-         */
-        private final Class<?> FIELD_TYPE;
-
-        /**
-         * getter方法
-         */
-        private final Method GETTER;
-
-        /**
-         * setter方法
-         */
-        private final Method SETTER;
-
-        /* —————— 各种api —————— */
 
         /**
-         * 通过实例对象获取字段值,返回一个封装类
-         * success为是否成功的执行了
-         * invoke代表执行的值
-         * 如果执行失败，则invoke的值必然为null
-         *
-         * @param obj
+         * 获取字段路径，例如：user.address.city，单层字段同样适用
          */
-        private InvokeResult objectGetter(Object obj) {
-            if (GETTER != null) {
-                try {
-                    //执行getter方法
-                    Object invoke = GETTER.invoke(obj);
-                    return InvokeResult.success(invoke);
-                } catch (Exception e) {
-                    return InvokeResult.fail();
+        private FieldPath path(String fieldName) {
+            FieldPath path = paths.get(fieldName);
+            if (path != null) {
+                return path;
+            }
+            path = compile(fieldName);
+            synchronized (this) {
+                FieldPath exist = paths.get(fieldName);
+                if (exist != null) {
+                    return exist;
                 }
-            } else {
-                return InvokeResult.fail();
+                Map<String, FieldPath> copy = new HashMap<>(paths);
+                copy.put(fieldName, path);
+                paths = copy;
+                return path;
             }
         }
 
         /**
-         * 通过一个实例对象设置字段值，返回一个封装类
-         * setter没有返回值，则invoke必然为null
-         * 如果success为false，则说明方法执行出现错误或setter不存在
-         *
-         * @param obj
-         * @param value
+         * 按字段的声明类型逐层解析路径，无法解析的层级及其之后的层级留空，使用时按实际对象的类型解析
          */
-        private InvokeResult objectSetter(Object obj, Object value) {
-            if (SETTER != null) {
-                try {
-                    MethodUtils.invoke(obj, new Object[]{value}, SETTER);
-                    return InvokeResult.emptySuccess();
-                } catch (InvocationTargetException | IllegalAccessException e) {
-                    return InvokeResult.fail();
+        private FieldPath compile(String fieldName) {
+            String[] names = fieldName.split("\\.");
+            FieldAccessor[] accessors = new FieldAccessor[names.length];
+            AccessorTable table = this;
+            for (int i = 0; i < names.length; i++) {
+                FieldAccessor accessor = table.accessor(names[i]);
+                if (accessor.type == null) {
+                    break;
+                }
+                accessors[i] = accessor;
+                if (i < names.length - 1) {
+                    table = ACCESSOR_TABLES.get(accessor.type);
                 }
-            } else {
-                return InvokeResult.fail();
             }
+            return new FieldPath(names, accessors);
         }
+    }
 
-        /**
-         * 获取字段所在类的Class对象
-         */
-        private Class<T> getFieldWhereClassIn() {
-            return this.FIELD_WHERE_CLASS;
-        }
-
-        /**
-         * 获取字段名
-         */
-        private String getFieldName() {
-            return FIELD_NAME;
-        }
+    /**
+     * 字段路径，依次访问其中的字段<br>
+     * 各层级按字段的声明类型预先解析，声明类型中无法解析或没有对应的getter、setter时（例如字段声明为Object或父类），
+     * 按实际对象的类型解析，结果缓存在实际类型的访问表中
+     */
+    private static final class FieldPath {
+        private final String[] names;
 
         /**
-         * 获取字段
+         * 按声明类型解析的结果，无法解析的层级为null
          */
-        @Override
-        public Field getField() {
-            return FIELD;
-        }
+        private final FieldAccessor[] accessors;
 
-        /**
-         * 获取字段类型
-         */
-        private Class<?> getFieldType() {
-            return FIELD_TYPE;
+        private FieldPath(String[] names, FieldAccessor[] accessors) {
+            this.names = names;
+            this.accessors = accessors;
         }
 
         /**
-         * 获取getter方法
+         * 全部层级都可以按声明类型解析
          */
-        @Override
-        public Method getGetter() {
-            return GETTER;
+        private boolean isResolved() {
+            return accessors[accessors.length - 1] != null;
         }
 
         /**
-         * 获取setter方法
-         */
-        @Override
-        public Method getSetter() {
-            return SETTER;
-        }
-
-
-        /*
-            重写equals方法和hashCode方法，使得字段名和所在Class类为区别本类的字段
+         * 用于获取第index层字段值的访问方式
+         *
+         * @param target 字段所在的对象
          */
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+        private FieldAccessor getter(int index, Object target) {
+            FieldAccessor accessor = accessors[index];
+            if (accessor == null || accessor.getterHandle == null) {
+                return ACCESSOR_TABLES.get(target.getClass()).accessor(names[index]);
             }
-            SingleCacheField<?> that = (SingleCacheField<?>) o;
-            return FIELD_WHERE_CLASS.equals(that.FIELD_WHERE_CLASS) &&
-                    FIELD_NAME.equals(that.FIELD_NAME);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(FIELD_WHERE_CLASS, FIELD_NAME);
+            return accessor;
         }
 
         /**
-         * 构造-通过字段为字段名赋值
-         */
-        private SingleCacheField(Class<T> fieldWhereClass, Field field, Method getter, Method setter) {
-            //设置所属类
-            this.FIELD_WHERE_CLASS = fieldWhereClass;
-            //设置字段相关
-            this.FIELD = field;
-            this.FIELD_NAME = field.getName();
-            this.FIELD_TYPE = field.getType();
-            //获取此字段的getter方法
-            this.GETTER = getter;
-            this.SETTER = setter;
-        }
-
-        /**
-         * 获取字段的实例值
-         */
-        @Override
-        public InvokeResult fieldValue(Object object) {
-            return objectGetter(object);
-        }
-
-        /**
-         * 为字段赋值
+         * 用于为第index层字段赋值的访问方式
+         *
+         * @param target 字段所在的对象
          */
-        @Override
-        public InvokeResult fieldValueSet(T object, Object param) {
-            //赋值
-            try {
-                MethodUtils.invoke(object, new Object[]{param}, SETTER);
-                //如果没有出现异常，则说明方法执行成功，返回成功信息
-                return InvokeResult.emptySuccess();
-            } catch (InvocationTargetException | IllegalAccessException e) {
-                //如果出现异常，则说明方法执行错误，返回错误信息
-                return InvokeResult.fail();
+        private FieldAccessor setter(int index, Object target) {
+            FieldAccessor accessor = accessors[index];
+            if (accessor == null || accessor.setterHandle == null) {
+                return ACCESSOR_TABLES.get(target.getClass()).accessor(names[index]);
             }
+            return accessor;
         }
 
-    }
-
-
-
-
-    /* —————————————————————————————————————— 多层缓存对象相关方法 —————————————————————————————————————————— */
-
-    /**
-     * 尝试查询上层层级字段
-     */
-    private static <R, T> LevelCacheField<R, T> findUpperLevelCacheField(LevelCacheField thisLevelCacheField) {
-        HashMap<String, LevelCacheField> levelCacheFieldHashMap = LEVEL_FIELD_CACHE_MAP.get(thisLevelCacheField.getRootClass());
-        try {
-            LevelCacheField tryFoundUpper = levelCacheFieldHashMap.entrySet().parallelStream().filter(e -> (e.getValue().getLevel() + 1) == thisLevelCacheField.getLevel()).findFirst().map(Map.Entry::getValue).orElse(null);
-            return Optional.ofNullable(tryFoundUpper).orElse(null);
-        } catch (Exception ignore) {
-            //如果出现异常则说明没有查询到，不做处理,直接返回null
-            return null;
+        private FieldAccessor last() {
+            return accessors[accessors.length - 1];
         }
     }
 
     /**
-     * 储存或覆盖一个多层级字段对象
-     * 可选：上层字段、下层字段
-     * 必要：根类、字段名、本类字段
-     *
-     * @param <R>            根类类型
-     * @param <T>            本类类型
-     *                       保存或更新的多层级对象
-     * @param rootClass      必要 根类
-     * @param fieldName      必要 字段名
-     * @param lower          可选 下层
-     * @param thisCacheField 必要 本类字段
+     * 一个字段的访问方式：字段对象、公共的getter与setter方法以及编译好的方法句柄，创建后不可变
      */
-    private static <R, T> LevelCacheField<R, T> saveLevelCacheField(Class<R> rootClass,
-                                                                    String fieldName,
-                                                                    LevelCacheField<R, ?> lower,
-                                                                    SingleCacheField<T> thisCacheField) {
-
-
-        //通过根类获取
-        HashMap<String, LevelCacheField> levelCacheFieldHashMap = LEVEL_FIELD_CACHE_MAP.get(rootClass);
-        //判断有没有此根类的多级字段集
-        if (levelCacheFieldHashMap != null) {
-            //有多层级字段集，根据字段名获取对象
-            LevelCacheField<R, T> levelCacheField = levelCacheFieldHashMap.get(fieldName);
-
-            if (levelCacheField == null) {
-                //没有此多层级对象，创建并添加
-                levelCacheField = new LevelCacheField<>(rootClass, fieldName, null, lower, thisCacheField);
-                levelCacheFieldHashMap.put(fieldName, levelCacheField);
-            }
-
-            //判断upper
-            if (levelCacheField.getUpperLevelField() == null) {
-                //如果原本没有上层
-                //如果upper不为null，赋值
-                if (null != null) {
-                    levelCacheField.setUpperLevelField(null);
-                } else {
-                    //如果为null，则尝试从内存中寻找上层字段 - 根据level查找即可
-                    //如果有上层字段，则肯定同属一个根类，且上层level+1为此层level，此层level使用字段名切割判断
-                    LevelCacheField<R, ?> upperLevelCacheField = findUpperLevelCacheField(levelCacheField);
-                    LevelCacheField tryFoundUpper = levelCacheFieldHashMap.entrySet().parallelStream().filter(e -> (e.getValue().getLevel() + 1) == fieldName.split("\\.").length).findFirst().map(Map.Entry::getValue).orElse(null);
-                    //如果查询到了则赋值
-                    if (tryFoundUpper != null) {
-                        levelCacheField.setUpperLevelField(tryFoundUpper);
-                    }
-                }
-            }
-
-            //判断lower
-            if (levelCacheField.getLowerLevelField() == null) {
-
-                //如果lower不为null，赋值
-                if (lower != null) {
-                    levelCacheField.setLowerLevelField(lower);
-                } else {
-                    //如果lower为null，尝试从缓存中查找下层字段 - 根据level查找
-                    //如果有下层字段，则肯定同属一个根类，且下层level-1为此层level，此层level使用字段名切割判断
-                    try {
-                        LevelCacheField tryFoundLower = levelCacheFieldHashMap.entrySet().parallelStream().filter(e -> (e.getValue().getLevel() - 1) == fieldName.split("\\.").length).findFirst().map(Map.Entry::getValue).orElse(null);
-                        levelCacheField.setLowerLevelField(tryFoundLower);
-                    } catch (Exception ignore) {
-                        //如果出现异常则说明没有查询到，不做处理
-                    }
-                }
-            }
-
-
-            //返回
-            return levelCacheField;
-
-        } else {
-            //没有字段集，创建一个新的并保存
-            HashMap<String, LevelCacheField> newLevelCacheFieldHashMap = new HashMap<>(5);
-            //新的多层级缓存字段
-            LevelCacheField<R, T> newLevelCacheField = new LevelCacheField<>(rootClass, fieldName, null, null, thisCacheField);
-            //保存
-            newLevelCacheFieldHashMap.put(fieldName, newLevelCacheField);
-            //根据根类记入缓存
-            LEVEL_FIELD_CACHE_MAP.put(rootClass, newLevelCacheFieldHashMap);
-
-            //返回
-            return newLevelCacheField;
-        }
-    }
-
-    /**
-     * 储存或覆盖一个多层级字段对象
-     * 可选的上层字段、下层字段为null
-     * 必要：根类、字段名、本类字段
-     *
-     * @param rootClass
-     * @param fieldName
-     * @param thisCacheField
-     * @param <R>
-     * @param <T>
-     */
-    private static <R, T> void saveLevelCacheField(Class<R> rootClass,
-                                                   String fieldName,
-                                                   SingleCacheField<T> thisCacheField) {
-        saveLevelCacheField(rootClass, fieldName, null, thisCacheField);
-    }
-
-
-
-    /* —————————————————————————————————————— 多层缓存对象内部类 —————————————————————————————————————————— */
-
-    /**
-     * 多层级字段缓存对象
-     * 内部类，实现字段缓存，优化此工具类的效率
-     * **由于多层级字段的缓存与获取很容易发生错误和异常，所以尽可能的将异常处理，提高容错性
-     *
-     * @param <R> 多层级缓存字段的根类类型
-     * @param <T> 多层级缓存字段的当前类类型
-     */
-    private static class LevelCacheField<R extends Object, T> implements CacheField<R> {
-        /*
-            多层级，就要一环套一环
-            每层概念上都会有：上层、下层、当前层
-            当前层即为一个SingleCacheField对象
-
-         */
+    private static final class FieldAccessor {
+        private final Class<?> owner;
+        private final String name;
+        private final Field field;
+        private final Method getter;
+        private final Method setter;
 
         /**
-         * 多层级的根层所在类
+         * 类型为 (Object)Object
          */
-        private final Class<R> ROOT_CLASS;
+        private final MethodHandle getterHandle;
 
         /**
-         * 字段名，唯一且不可变
+         * 类型为 (Object, Object)void
          */
-        private final String FIELD_NAME;
+        private final MethodHandle setterHandle;
 
         /**
-         * 上层对象
+         * 字段的类型，没有字段时为getter的返回值类型，都没有时为null
          */
-        private LevelCacheField upperLevelField;
+        private final Class<?> type;
 
         /**
-         * 下层
+         * 赋值时需要的参数类型，基本数据类型为其包装类型
          */
-        private LevelCacheField lowerLevelField;
+        private final Class<?> valueType;
 
         /**
-         * 当前层
+         * 中间层级的值为null时用于创建实例，首次使用时获取
          */
-        private SingleCacheField<T> thisLevelField;
-
-        private final int LEVEL;
-
-        /* —————————— 相关api —————————— */
-
-        @Override
-        public Method getGetter() {
-            return thisLevelField.getGetter();
-        }
-
-        @Override
-        public Method getSetter() {
-            return thisLevelField.getSetter();
-        }
+        private volatile MethodHandle constructor;
 
-        @Override
-        public Field getField() {
-            return thisLevelField.getField();
-        }
-
-
-        /* —————————— getter setter —————————— */
-
-        /**
-         * 当前字段在根类中的层级数，1级为根字段，根据字段名的切割计算
-         */
-        public int getLevel() {
-            return this.LEVEL;
-        }
-
-        public Class<?> getRootClass() {
-            return ROOT_CLASS;
-        }
-
-
-        public LevelCacheField getUpperLevelField() {
-            return upperLevelField;
-        }
-
-        /**
-         * 设置upper的同时设置对方的lower
-         *
-         * @param upperLevelField
-         */
-        public void setUpperLevelField(LevelCacheField upperLevelField) {
-            if (this.upperLevelField != null) {
-                this.upperLevelField = upperLevelField;
-                //直接赋值，防止无限循环
-                upperLevelField.lowerLevelField = this;
+        private FieldAccessor(Class<?> owner, String name) {
+            this.owner = owner;
+            this.name = name;
+            if (name.isEmpty()) {
+                this.field = null;
+                this.getter = null;
+                this.setter = null;
+            } else {
+                this.field = findField(owner, name);
+                this.getter = findMethod(owner, "get" + headUpper(name));
+                this.setter = field == null ? null : findMethod(owner, "set" + headUpper(name), field.getType());
             }
+            this.type = field != null ? field.getType() : getter != null ? getter.getReturnType() : null;
+            this.valueType = type == null ? null : MethodUtils.wrap(type);
+            this.getterHandle = MethodUtils.getter(getter);
+            this.setterHandle = MethodUtils.setter(null, setter);
         }
 
-        public LevelCacheField getLowerLevelField() {
-            return lowerLevelField;
-        }
-
-        /**
-         * 设置lower的同时设置对方的upper
-         *
-         * @param lowerLevelField
-         */
-        public void setLowerLevelField(LevelCacheField lowerLevelField) {
-            if (lowerLevelField != null) {
-                this.lowerLevelField = lowerLevelField;
-                //直接赋值，防止无限循环
-                lowerLevelField.upperLevelField = this;
+        private Object get(Object target) throws NoSuchMethodException, InvocationTargetException {
+            if (getterHandle == null) {
+                throw noGetter();
             }
-        }
-
-        public SingleCacheField<T> getThisLevelField() {
-            return thisLevelField;
-        }
-        /* —————— toString、equals、hashcode —————— */
-
-        @Override
-        public String toString() {
-            return "LevelCacheField{" +
-                    "rootClass=" + ROOT_CLASS +
-                    ", fieldName='" + FIELD_NAME + '\'' +
-                    ", thisLevelFieldClass=" + thisLevelField.getFieldWhereClassIn() +
-                    '}';
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            LevelCacheField<?, ?> that = (LevelCacheField<?, ?>) o;
-            return ROOT_CLASS.equals(that.ROOT_CLASS) &&
-                    FIELD_NAME.equals(that.FIELD_NAME);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(ROOT_CLASS, FIELD_NAME);
-        }
-
-        /* —————— 根类匹配方法 —————— */
-
-        /**
-         * 如果根类不匹配则抛出异常
-         */
-        private static void isSameRoot(Class<?> myRoot, Class<?> inRoot) {
-            if (!myRoot.equals(inRoot)) {
-                throw new NotSameRootException(myRoot, inRoot);
+            try {
+                return (Object) getterHandle.invokeExact(target);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
             }
-
         }
 
-        /**
-         * 构造
-         */
-        public LevelCacheField(Class<R> rootClass, String fieldName, LevelCacheField upperLevelField, LevelCacheField lowerLevelField, SingleCacheField<T> thisLevelField) {
-            //验证必要参数
-            allNonNull(rootClass, fieldName, thisLevelField);
-
-            //根层Class
-            this.ROOT_CLASS = rootClass;
-
-            //为字段名赋值，不可为null
-            this.FIELD_NAME = fieldName;
-
-            //为层级赋值 - 根据字段名切割‘.’计算层级数
-            this.LEVEL = fieldName.split("\\.").length;
-
-            //上层对象，可为null
-            //如果不为null，则根层类必须相同
-            if (upperLevelField != null) {
-                isSameRoot(rootClass, upperLevelField.getRootClass());
-                this.upperLevelField = upperLevelField;
-            } else {
-                this.upperLevelField = null;
+        private void set(Object target, Object value) throws InvocationTargetException {
+            if (setterHandle == null) {
+                //如果没有setter,展示异常提醒
+                String error = "没有找到[" + owner + "]中的字段[" + name + "]的setter[set" + headUpper(name) + "]方法，无法进行赋值";
+                throw new RuntimeException(new NoSuchFieldException(error));
             }
-
-            //下层对象，可为null
-            //如果不为null，则根层类必须相同
-            if (lowerLevelField != null) {
-                isSameRoot(rootClass, lowerLevelField.getRootClass());
-                this.lowerLevelField = lowerLevelField;
-            } else {
-                this.lowerLevelField = null;
+            try {
+                setterHandle.invokeExact(target, MethodUtils.convertArg(value, valueType));
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
             }
-
-            //当前层字段对象，不可为null
-            this.thisLevelField = thisLevelField;
-
         }
 
-        /**
-         * 使用根类具体对象返回当前层级的当前字段的值
-         * 从上层对象遍历至此，由远到近
-         */
-        private Object thisLevelFieldGetter(R r) {
-            //如果有上层对象
-            if (upperLevelField != null) {
-                //如果有上层对象，则先获取上层对象的字段值，再根据上层对象的字段值返回对象获取当前字段值
-                //上层字段值的获取对象的类型为根类类型
-                //得到上层对象的值，使用上层对象获取本类对象
-                Object upperInvoke = upperLevelField.thisLevelFieldGetter(r);
-                if (upperInvoke != null) {
-                    try {
-                        //使用上层字段的值执行getter
-                        return getThisLevelField().getGetter().invoke(upperInvoke);
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        // 出现异常，展示异常并返回一个null
-                        return null;
-                    }
-                } else {
-                    //如果上层返回值为null，则直接返回null
-                    return null;
-                }
-            } else {
-                //如果没有上层对象
-                //如果level不为1，则尝试查询上层，如果查询不到则返回null
-                if (LEVEL != 1) {
-                    // 查询上层字段
-                    LevelCacheField<R, ?> upperLevelCacheField = findUpperLevelCacheField(this);
-                    if (upperLevelCacheField != null) {
-                        //如果查询到了，赋值并重新获取
-                        this.upperLevelField = upperLevelCacheField;
-                        return thisLevelFieldGetter(r);
-                    } else {
-                        //如果没有找到上层对象，返回null
-                        return null;
-                    }
-                } else {
-                    //如果level为1没有上层对象，认为当前即为根类，获取当前层字段值
-                    InvokeResult invokeResult = thisLevelField.objectGetter(r);
-                    //抛出异常并不合适，这里选择不做处理，直接返回null
-                    return invokeResult.getInvoke();
+        private Object newInstance() throws InstantiationException, InvocationTargetException {
+            MethodHandle handle = constructor;
+            if (handle == null) {
+                handle = MethodUtils.constructor(type);
+                if (handle == null) {
+                    throw new InstantiationException("无法创建类[" + type + "]的实例，字段：" + name);
                 }
+                constructor = handle;
             }
-        }
-
-
-        /**
-         * 为字段赋值
-         */
-        private Boolean thisLevelFieldSetter(R object, Object param) {
-            //如果有上层字段，
-            if (upperLevelField != null) {
-                //如果有上层字段值，则先获取上层字段的字段值，再根据上层字段的值为当前字段赋值
-                Object upperInvoke = upperLevelField.thisLevelFieldGetter(object);
-                //如果上层对象的获取值为null，尝试为上层字段赋一个新的实例对象
-                if (upperInvoke == null) {
-                    try {
-                        //获取上层对象的SETTER方法和字段类型
-                        Method upperSetter = upperLevelField.getSetter();
-                        Object upperInstance = upperLevelField.getThisLevelField().getFieldType().newInstance();
-                        //为上层字段的上层字段赋值
-                        //获取上上层对象的实例
-                        InvokeResult upperUpperInvokeResult = upperLevelField.upperLevelField.fieldValue(object);
-                        //如果获取失败或没有值，直接返回null
-                        if (upperUpperInvokeResult.isSuccess() && upperUpperInvokeResult.getInvoke() != null) {
-                            MethodUtils.invoke(upperUpperInvokeResult, new Object[]{upperInstance}, upperSetter);
-                            //赋值之后重新获取
-                            return thisLevelFieldSetter(object, param);
-                        } else {
-                            return false;
-                        }
-                    } catch (Exception e) {
-
-                        //若是出现异常，则说明上层对象无法赋值
-                        //没有上层对象则无法为本层对象赋值，直接返回false
-                        return false;
-                    }
-                } else {
-                    try {
-                        //上层对象的获取值不为null，使用上层对象的返回值赋值
-                        Method setter = thisLevelField.getSetter();
-                        MethodUtils.invoke(object, new Object[]{param}, setter);
-                        return true;
-                    } catch (Exception e) {
-                        //如果出现异常，则说明赋值出现错误，返回false
-                        return false;
-                    }
-                }
-            } else {
-                //如果没有上层对象，判断层级
-                if (LEVEL != 1) {
-                    //如果层级不为1，则尝试查询上层，如果查询不到则返回null
-                    LevelCacheField<R, ?> upperLevelCacheField = findUpperLevelCacheField(this);
-                    if (upperLevelCacheField != null) {
-                        //如果查询到了，赋值并重新查询
-                        this.upperLevelField = upperLevelCacheField;
-                        return thisLevelFieldSetter(object, param);
-                    } else {
-                        //没有查询到，直接返回false
-                        return false;
-                    }
-                } else {
-                    //层级为1，则本类即为根类，直接赋值并返回赋值结果
-                    InvokeResult invokeResult = thisLevelField.objectSetter(object, param);
-                    return invokeResult.isSuccess();
-                }
+            try {
+                return (Object) handle.invokeExact();
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
             }
         }
 
-
-        /**
-         * 获取字段的实例
-         */
-        @Override
-        public InvokeResult fieldValue(R object) {
-            Object o = thisLevelFieldGetter(object);
-            if (o != null) {
-                return InvokeResult.success(o);
-            } else {
-                return InvokeResult.fail();
-            }
+        private NoSuchMethodException noGetter() {
+            return new NoSuchMethodException("没有找到类[" + owner + "]字段[" + name + "]的getter方法");
         }
 
-        /**
-         * 为字段赋值并封装结果
-         */
-        @Override
-        public InvokeResult fieldValueSet(R r, Object param) {
-            Boolean isSuccess = thisLevelFieldSetter(r, param);
-            if (isSuccess) {
-                return InvokeResult.emptySuccess();
-            } else {
-                return InvokeResult.fail();
+        private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+            try {
+                return owner.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                return null;
             }
         }
-
     }
 
-    /* ———————————————————————————————————— 缓存获取 封装类 —————————————————————————————————— */
-
     /**
      * 内部类
      * 方法执行的返回值封装类,此类除了重写方法以外的唯一公共接口
@@ -1544,39 +700,6 @@ public class FieldUtils {
         }
     }
 
-    /**
-     * 从缓存中获取一个缓存字段
-     */
-    private static <T> CacheField<T> getCacheField(Class<T> fieldWhereClass, String fieldName) {
-        //判断这是单层字段还是多层字段
-        String[] split = fieldName.split("\\.");
-        if (split.length == 1) {
-            //是单层的
-            HashMap<String, SingleCacheField> singleCacheFieldHashMap = SINGLE_FIELD_CACHE_MAP.get(fieldWhereClass);
-            //如果有此字段的信息，返回获取值，如果没有直接返回null
-            SingleCacheField singleCacheField = Optional.ofNullable(singleCacheFieldHashMap).map(m -> m.get(fieldName)).orElse(null);
-            return singleCacheField;
-        } else {
-            //如果长度不为1，则认为是多层对象
-            HashMap<String, LevelCacheField> levelCacheFieldHashMap = LEVEL_FIELD_CACHE_MAP.get(fieldWhereClass);
-            //如果有此字段的信息，返回获取值，如果没有直接返回null
-            return Optional.ofNullable(levelCacheFieldHashMap).map(m -> m.get(fieldName)).orElse(null);
-        }
-    }
-
-
-
-    /* ———————————————————————————————————— 缓存异常 ———————————————————————————————————— */
-
-    /**
-     * 多层级对象根类不匹配异常
-     */
-    private static class NotSameRootException extends RuntimeException {
-        NotSameRootException(Class<?> myRoot, Class<?> inRoot) {
-            super("多层级对象的根类不同！当前根类：[" + myRoot + "] 无法设置根类为[" + inRoot + "]的多层级对象！");
-        }
-    }
-
     /**
      * 构造私有化
      */
@@ -0,0 +1,264 @@
+package io.metersphere.jmeter.mock.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 数字与颜色的格式化<br>
+ * 数字直接写入线程内复用的字符数组，不解析格式字符串，也不创建中间对象。
+ * 小数按二进制的精确值舍入，只有非常接近进位边界时才退回到BigDecimal计算。
+ */
+public final class FormatUtils {
+
+    private static final int BUFFER_SIZE = 64;
+
+    /**
+     * 一次随机可以生成的最多位数，10^18小于Long.MAX_VALUE
+     */
+    static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * 快速舍入时缩放后的数值上限，在此范围内double可以精确表示全部整数
+     */
+    private static final double MAX_EXACT = 1L << 52;
+
+    /**
+     * 快速舍入支持的最多小数位数
+     */
+    private static final int MAX_FAST_SCALE = 15;
+
+    /**
+     * 每个线程缓存的DecimalFormat数量上限，超过后清空
+     */
+    private static final int MAX_CACHED_FORMATS = 64;
+
+    /**
+     * 10的0至18次方
+     */
+    static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+    /**
+     * DecimalFormat不是线程安全的，每个线程按格式缓存
+     */
+    private static final ThreadLocal<Map<String, DecimalFormat>> DECIMAL_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+    private FormatUtils() {
+    }
+
+    /* —————————————————————— 数字 —————————————————————— */
+
+    /**
+     * 指定长度的随机数字串，首位可以为0
+     *
+     * @param length 长度，小于等于0时返回空字符串
+     */
+    public static String randomDigits(int length) {
+        if (length <= 0) {
+            return "";
+        }
+        char[] chars = length <= BUFFER_SIZE ? BUFFER.get() : new char[length];
+        randomDigits(chars, 0, length);
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * 将指定长度的随机数字写入字符数组，首位可以为0
+     */
+    static void randomDigits(char[] chars, int offset, int length) {
+        RandomGenerator random = RandomSource.current();
+        //每次随机生成最多18位，而不是逐位生成
+        for (int position = 0; position < length; position += MAX_LONG_DIGITS) {
+            int digits = Math.min(MAX_LONG_DIGITS, length - position);
+            writeDigits(chars, offset + position, digits, random.nextLong(POWERS_OF_TEN[digits]));
+        }
+    }
+
+    /**
+     * 保留指定位数的小数，四舍六入五成双，小数位数为0时不输出小数点
+     *
+     * @param value 数值
+     * @param scale 小数位数
+     */
+    public static String toFixed(double value, int scale) {
+        char[] chars = BUFFER.get();
+        int end = writeFixed(chars, 0, value, scale);
+        if (end < 0) {
+            return slowFixed(value, scale, RoundingMode.HALF_EVEN);
+        }
+        return new String(chars, 0, end);
+    }
+
+    /**
+     * 保留指定位数的小数，四舍六入五成双，小数位数为0时不输出小数点
+     *
+     * @param value 数值
+     * @param scale 小数位数
+     */
+    public static String toFixed(BigDecimal value, int scale) {
+        return value.setScale(Math.max(scale, 0), RoundingMode.HALF_EVEN).toPlainString();
+    }
+
+    /**
+     * 按DecimalFormat的格式格式化数字，格式对象在线程内复用
+     *
+     * @param value   数值
+     * @param pattern 格式，例如：#.00、#,##0.0
+     */
+    public static String format(Number value, String pattern) {
+        Map<String, DecimalFormat> formats = DECIMAL_FORMATS.get();
+        DecimalFormat format = formats.get(pattern);
+        if (format == null) {
+            if (formats.size() >= MAX_CACHED_FORMATS) {
+                formats.clear();
+            }
+            format = new DecimalFormat(pattern);
+            formats.put(pattern, format);
+        }
+        return format.format(value);
+    }
+
+    /* —————————————————————— 颜色 —————————————————————— */
+
+    /**
+     * rgb(red, green, blue)
+     */
+    public static String rgb(int red, int green, int blue) {
+        char[] chars = BUFFER.get();
+        int position = writeText(chars, 0, "rgb(");
+        position = writeInt(chars, position, red);
+        position = writeText(chars, position, ", ");
+        position = writeInt(chars, position, green);
+        position = writeText(chars, position, ", ");
+        position = writeInt(chars, position, blue);
+        chars[position++] = ')';
+        return new String(chars, 0, position);
+    }
+
+    /**
+     * rgba(red, green, blue, alpha)，alpha保留两位小数，四舍五入
+     */
+    public static String rgba(int red, int green, int blue, float alpha) {
+        char[] chars = BUFFER.get();
+        int position = writeText(chars, 0, "rgba(");
+        position = writeInt(chars, position, red);
+        position = writeText(chars, position, ", ");
+        position = writeInt(chars, position, green);
+        position = writeText(chars, position, ", ");
+        position = writeInt(chars, position, blue);
+        position = writeText(chars, position, ", ");
+        int end = writeFixed(chars, position, alpha, 2);
+        if (end < 0) {
+            return new String(chars, 0, position) + slowFixed(alpha, 2, RoundingMode.HALF_UP) + ')';
+        }
+        chars[end++] = ')';
+        return new String(chars, 0, end);
+    }
+
+    /**
+     * hsl(hue, saturation%, lightness%)
+     */
+    public static String hsl(int hue, int saturation, int lightness) {
+        char[] chars = BUFFER.get();
+        int position = writeText(chars, 0, "hsl(");
+        position = writeInt(chars, position, hue);
+        position = writeText(chars, position, ", ");
+        position = writeInt(chars, position, saturation);
+        position = writeText(chars, position, "%, ");
+        position = writeInt(chars, position, lightness);
+        position = writeText(chars, position, "%)");
+        return new String(chars, 0, position);
+    }
+
+    /* —————————————————————— 写入 —————————————————————— */
+
+    /**
+     * 将小数写入字符数组，不处于进位边界时各种舍入方式的结果相同
+     *
+     * @return 写入结束的位置，数值超出快速舍入的范围或非常接近进位边界时返回-1
+     */
+    private static int writeFixed(char[] chars, int position, double value, int scale) {
+        if (!Double.isFinite(value) || scale < 0 || scale > MAX_FAST_SCALE) {
+            return -1;
+        }
+        double scaled = Math.abs(value) * POWERS_OF_TEN[scale];
+        if (scaled >= MAX_EXACT) {
+            return -1;
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        //乘法有舍入误差，无法判断是否恰好为0.5时交给BigDecimal
+        if (Math.abs(fraction - 0.5) <= Math.ulp(scaled)) {
+            return -1;
+        }
+        long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+        if (value < 0 && rounded != 0) {
+            chars[position++] = '-';
+        }
+        long pow = POWERS_OF_TEN[scale];
+        position = writeLong(chars, position, rounded / pow);
+        if (scale > 0) {
+            chars[position++] = '.';
+            writeDigits(chars, position, scale, rounded % pow);
+            position += scale;
+        }
+        return position;
+    }
+
+    private static String slowFixed(double value, int scale, RoundingMode mode) {
+        if (!Double.isFinite(value)) {
+            return String.valueOf(value);
+        }
+        return new BigDecimal(value).setScale(Math.max(scale, 0), mode).toPlainString();
+    }
+
+    private static int writeText(char[] chars, int position, String text) {
+        text.getChars(0, text.length(), chars, position);
+        return position + text.length();
+    }
+
+    private static int writeInt(char[] chars, int position, int value) {
+        return writeLong(chars, position, value);
+    }
+
+    private static int writeLong(char[] chars, int position, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return writeText(chars, position, Long.toString(value));
+            }
+            chars[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        while (digits < MAX_LONG_DIGITS && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        if (digits == MAX_LONG_DIGITS && value >= POWERS_OF_TEN[MAX_LONG_DIGITS]) {
+            digits++;
+        }
+        writeDigits(chars, position, digits, value);
+        return position + digits;
+    }
+
+    /**
+     * 将数字以十进制写入字符数组，不足的位数补0
+     */
+    static void writeDigits(char[] chars, int offset, int digits, long value) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -1,43 +1,28 @@
 package io.metersphere.jmeter.mock.util;
 
-import java.util.Random;
+import java.time.Year;
+import java.util.random.RandomGenerator;
 
 public class IDCardGenerator {
-    // 随机生成地区代码
-    private static String generateAreaCode() {
-        Random random = new Random();
-        int areaCode = random.nextInt(899999) + 100000; // 随机生成一个六位数地区码
-        return String.valueOf(areaCode);
-    }
-
-    // 计算校验码
-    private static char calculateCheckCode(String cardNumber) {
-        int[] weight = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
-        char[] checkCode = {'1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2'};
-        int sum = 0;
-        for (int i = 0; i < 17; i++) {
-            sum += (cardNumber.charAt(i) - '0') * weight[i];
-        }
-        return checkCode[sum % 11];
-    }
 
     // 生成身份证号
     public static String generateIDCard(String birthdate) {
-        // 假设地区码和顺序码可以随机生成
-        String areaCode = generateAreaCode();
-        String sequenceCode = String.format("%03d", new Random().nextInt(999));
-
-        // 将生日从yyyy-MM-dd格式转换为yyyyMMdd格式
-        String birthdateCode = birthdate.replace("-", "");
-
-        // 组合前17位
-        String cardNumber = areaCode + birthdateCode + sequenceCode;
-
-        // 计算校验码
-        char checkCode = calculateCheckCode(cardNumber);
-
-        // 返回完整的身份证号
-        return cardNumber + checkCode;
+        // 假设地区码和顺序码可以随机生成，地区码为六位数
+        RandomGenerator random = RandomSource.current();
+        int areaCode = random.nextInt(899999) + 100000;
+        int sequenceCode = random.nextInt(999);
+
+        // 只有年份时在该年内随机选择一天
+        if (birthdate.length() == 4) {
+            Year year = Year.parse(birthdate);
+            long birthDay = year.atDay(1).toEpochDay() + random.nextInt(year.length());
+            return IdentityGenerator.idCard(areaCode, birthDay, sequenceCode);
+        }
+        // 生日为yyyy-MM-dd或yyyyMMdd格式，直接写入身份证号，不再拼接字符串
+        if (birthdate.length() == 10 && birthdate.charAt(4) == '-' && birthdate.charAt(7) == '-') {
+            birthdate = birthdate.replace("-", "");
+        }
+        return IdentityGenerator.idCard(areaCode, birthdate, sequenceCode);
     }
 
 }
@@ -0,0 +1,188 @@
+package io.metersphere.jmeter.mock.util;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 身份证号、手机号、邮编的生成<br>
+ * 数字直接写入线程内复用的字符数组，身份证号的校验码在写入的同时累加计算，
+ * 生日以epoch day表示，通过整数运算换算为年月日，随机数来自{@link RandomSource}。
+ */
+public final class IdentityGenerator {
+
+    /**
+     * 身份证号前17位的权重
+     */
+    private static final int[] WEIGHTS = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
+    /**
+     * 校验码，下标为加权和对11取模的结果
+     */
+    private static final char[] CHECK_CODES = {'1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2'};
+
+    /**
+     * 随机生日的范围：1年前至100年前，按每年365天计算
+     */
+    private static final int MIN_AGE_DAYS = 365;
+    private static final int MAX_AGE_DAYS = 365 * 100;
+
+    /**
+     * 线程内复用的字符数组，长度为身份证号的长度
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[18]);
+
+    private IdentityGenerator() {
+    }
+
+    /* —————————————————————— 身份证号 —————————————————————— */
+
+    /**
+     * 随机身份证号，生日在1年前至100年前之间，可复现模式下以固定的截止日期计算，见{@link RandomSource#today()}
+     *
+     * @param male 是否为男性，决定顺序码的奇偶
+     */
+    public static String idCard(boolean male) {
+        RandomGenerator random = RandomSource.current();
+        long today = RandomSource.today();
+        long birthDay = today - MAX_AGE_DAYS + random.nextInt(MAX_AGE_DAYS - MIN_AGE_DAYS + 1);
+        return idCard(RandomUtils.getIdNoCity(random.nextInt(RandomUtils.getIdNoCityCount())), birthDay,
+                randomSequence(random, male));
+    }
+
+    /**
+     * 指定生日的随机身份证号
+     *
+     * @param birthDay 生日的epoch day
+     * @param male     是否为男性，决定顺序码的奇偶
+     */
+    public static String idCard(long birthDay, boolean male) {
+        RandomGenerator random = RandomSource.current();
+        return idCard(RandomUtils.getIdNoCity(random.nextInt(RandomUtils.getIdNoCityCount())), birthDay,
+                randomSequence(random, male));
+    }
+
+    /**
+     * 指定生日的随机身份证号
+     *
+     * @param birth 生日，yyyyMMdd
+     * @param male  是否为男性，决定顺序码的奇偶
+     */
+    public static String idCard(CharSequence birth, boolean male) {
+        checkBirth(birth);
+        RandomGenerator random = RandomSource.current();
+        return idCard(RandomUtils.getIdNoCity(random.nextInt(RandomUtils.getIdNoCityCount())), birth,
+                randomSequence(random, male));
+    }
+
+    /**
+     * 生成身份证号
+     *
+     * @param areaCode 6位地区码
+     * @param birthDay 生日的epoch day
+     * @param sequence 3位顺序码
+     */
+    public static String idCard(int areaCode, long birthDay, int sequence) {
+        char[] chars = BUFFER.get();
+        //换算年月日，算法见 http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        long z = birthDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+        int sum = writeDigits(chars, 0, 6, areaCode);
+        sum += writeDigits(chars, 6, 4, year);
+        sum += writeDigits(chars, 10, 2, month);
+        sum += writeDigits(chars, 12, 2, day);
+        sum += writeDigits(chars, 14, 3, sequence);
+        chars[17] = CHECK_CODES[sum % 11];
+        return new String(chars, 0, 18);
+    }
+
+    /**
+     * 生成身份证号，生日为8位数字
+     *
+     * @param areaCode 6位地区码
+     * @param birth    生日，yyyyMMdd
+     * @param sequence 3位顺序码
+     */
+    public static String idCard(int areaCode, CharSequence birth, int sequence) {
+        checkBirth(birth);
+        char[] chars = BUFFER.get();
+        int sum = writeDigits(chars, 0, 6, areaCode);
+        for (int i = 0; i < 8; i++) {
+            char c = birth.charAt(i);
+            chars[6 + i] = c;
+            sum += (c - '0') * WEIGHTS[6 + i];
+        }
+        sum += writeDigits(chars, 14, 3, sequence);
+        chars[17] = CHECK_CODES[sum % 11];
+        return new String(chars, 0, 18);
+    }
+
+    private static void checkBirth(CharSequence birth) {
+        if (birth.length() != 8) {
+            throw new MockException("生日需要为yyyyMMdd格式：" + birth);
+        }
+        for (int i = 0; i < 8; i++) {
+            char c = birth.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new MockException("生日需要为yyyyMMdd格式：" + birth);
+            }
+        }
+    }
+
+    /**
+     * 随机顺序码，1~999，男性为奇数，女性为偶数
+     */
+    private static int randomSequence(RandomGenerator random, boolean male) {
+        //男性：1,3...999 共500个；女性：2,4...998 共499个
+        return male ? random.nextInt(500) * 2 + 1 : random.nextInt(499) * 2 + 2;
+    }
+
+    /* —————————————————————— 手机号、邮编 —————————————————————— */
+
+    /**
+     * 随机11位手机号，以1开头
+     */
+    public static String phoneNumber() {
+        char[] chars = BUFFER.get();
+        chars[0] = '1';
+        writeDigits(chars, 1, 10, RandomSource.current().nextLong(10_000_000_000L));
+        return new String(chars, 0, 11);
+    }
+
+    /**
+     * 随机6位邮编，100000~999999
+     */
+    public static String zip() {
+        char[] chars = BUFFER.get();
+        writeDigits(chars, 0, 6, 100000 + RandomSource.current().nextInt(900000));
+        return new String(chars, 0, 6);
+    }
+
+    /* —————————————————————— 工具 —————————————————————— */
+
+    /**
+     * 将数字以十进制写入字符数组，不足的位数补0
+     *
+     * @return 写入的数字按身份证号权重的加权和，写入位置超过17位的部分不计算
+     */
+    private static int writeDigits(char[] chars, int offset, int digits, long value) {
+        int sum = 0;
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            int digit = (int) (value % 10);
+            chars[i] = (char) ('0' + digit);
+            if (i < WEIGHTS.length) {
+                sum += digit * WEIGHTS[i];
+            }
+            value /= 10;
+        }
+        return sum;
+    }
+}
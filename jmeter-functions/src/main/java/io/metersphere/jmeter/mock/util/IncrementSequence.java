@@ -0,0 +1,173 @@
+package io.metersphere.jmeter.mock.util;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 自增序列，用于生成主键<br>
+ * 序列以名称区分，同名序列在全局共享，序列的参数以第一次创建时为准。<br>
+ * 序列有两种模式：
+ * <ul>
+ *     <li>唯一模式（默认）：每个线程一次从共享计数器中领取一段（blockSize个）序号，之后只在线程内部递增，
+ *     直到用完再领取下一段。全局唯一，单个线程内递增，但不同线程之间的值是交错的。</li>
+ *     <li>有序模式：每个值都直接从共享计数器中获取，全局严格递增，线程较多时竞争也更多。</li>
+ * </ul>
+ */
+public final class IncrementSequence {
+
+    /**
+     * 默认每次领取的序号数量
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * 名称 -> 序列
+     */
+    private static final Map<String, IncrementSequence> SEQUENCES = new ConcurrentHashMap<>();
+
+    /**
+     * 序列名称
+     */
+    private final String name;
+
+    /**
+     * 起始值
+     */
+    private final long start;
+
+    /**
+     * 步长
+     */
+    private final long step;
+
+    /**
+     * 每次领取的序号数量，有序模式下为1
+     */
+    private final int blockSize;
+
+    /**
+     * 是否全局严格递增
+     */
+    private final boolean ordered;
+
+    /**
+     * 下一个未被领取的序号，值 = start + 序号 * step
+     */
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * 当前线程领取的序号段
+     */
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    /**
+     * 获取序列，不存在时使用指定的参数创建
+     *
+     * @param name      序列名称
+     * @param start     起始值
+     * @param step      步长，不能为0
+     * @param blockSize 每个线程每次领取的序号数量，小于等于1时每个值都从共享计数器中获取
+     * @param ordered   是否全局严格递增
+     */
+    public static IncrementSequence get(String name, long start, long step, int blockSize, boolean ordered) {
+        IncrementSequence sequence = SEQUENCES.get(name);
+        if (sequence == null) {
+            if (step == 0) {
+                throw new MockException("自增序列的步长不能为0：" + name);
+            }
+            sequence = SEQUENCES.computeIfAbsent(name, k -> new IncrementSequence(k, start, step, blockSize, ordered));
+        }
+        return sequence;
+    }
+
+    /**
+     * 获取序列，不存在时以唯一模式创建
+     */
+    public static IncrementSequence get(String name, long start, long step) {
+        return get(name, start, step, DEFAULT_BLOCK_SIZE, false);
+    }
+
+    /**
+     * 移除序列，再次获取时从起始值重新开始
+     */
+    public static void remove(String name) {
+        SEQUENCES.remove(name);
+    }
+
+    /**
+     * 移除全部序列
+     */
+    public static void clear() {
+        SEQUENCES.clear();
+    }
+
+    /**
+     * 获取下一个值
+     */
+    public long next() {
+        long index;
+        if (blockSize <= 1) {
+            index = counter.getAndIncrement();
+        } else {
+            Block block = blocks.get();
+            if (block.cursor == block.limit) {
+                block.cursor = counter.getAndAdd(blockSize);
+                block.limit = block.cursor + blockSize;
+            }
+            index = block.cursor++;
+        }
+        if (index < 0) {
+            throw new MockException("自增序列已耗尽：" + name);
+        }
+        try {
+            return Math.addExact(start, Math.multiplyExact(index, step));
+        } catch (ArithmeticException e) {
+            throw new MockException("自增序列已耗尽：" + name, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getStep() {
+        return step;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    private IncrementSequence(String name, long start, long step, int blockSize, boolean ordered) {
+        this.name = name;
+        this.start = start;
+        this.step = step;
+        this.ordered = ordered;
+        this.blockSize = ordered ? 1 : blockSize;
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementSequence{name=" + name + ", start=" + start + ", step=" + step
+                + ", blockSize=" + blockSize + ", ordered=" + ordered + "}";
+    }
+
+    /**
+     * 线程领取的序号段 [cursor, limit)
+     */
+    private static final class Block {
+        private long cursor;
+        private long limit;
+    }
+}
@@ -0,0 +1,104 @@
+package io.metersphere.jmeter.mock.util;
+
+/**
+ * 带密钥的伪随机置换<br>
+ * 将区间 [0, size) 内的整数一一映射到同一区间内，映射结果看起来是随机的，但不同的输入必然得到不同的输出。<br>
+ * 实现为平衡的Feistel网络：在能够覆盖size的最小偶数位宽上进行置换，结果超出区间时继续置换（cycle-walking），
+ * 由于位宽最多是size的4倍，平均不超过4次即可落回区间内。<br>
+ * 不可变，可以在多个线程之间共享。
+ */
+public final class KeyedPermutation {
+
+    /**
+     * Feistel轮数
+     */
+    private static final int ROUNDS = 4;
+
+    /**
+     * 支持的最大区间
+     */
+    public static final long MAX_SIZE = 1L << 62;
+
+    /**
+     * 区间大小
+     */
+    private final long size;
+
+    /**
+     * 半边的位数
+     */
+    private final int halfBits;
+
+    /**
+     * 半边的掩码
+     */
+    private final long halfMask;
+
+    /**
+     * 每一轮的子密钥
+     */
+    private final long[] roundKeys;
+
+    /**
+     * 创建置换
+     *
+     * @param size 区间大小，1 ~ 2^62
+     * @param key  密钥，相同的密钥与区间得到相同的置换
+     */
+    public KeyedPermutation(long size, long key) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("区间大小超出范围：" + size);
+        }
+        this.size = size;
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        this.roundKeys = new long[ROUNDS];
+        long k = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            k = mix(k + 0x9E3779B97F4A7C15L);
+            roundKeys[i] = k;
+        }
+    }
+
+    /**
+     * 获取序号对应的置换结果
+     *
+     * @param index 序号，[0, size)
+     * @return 置换结果，[0, size)
+     */
+    public long permute(long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("序号超出区间：" + index);
+        }
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    /**
+     * 64位混淆函数（SplitMix64的终结步骤）
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -7,9 +7,15 @@ import io.metersphere.jmeter.mock.invoker.MethodInvoker;
 import org.apache.commons.beanutils.ConvertUtils;
 
 import javax.script.ScriptException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
 
@@ -17,34 +23,164 @@ import java.util.List;
  * 方法执行工具
  */
 public class MethodUtils {
+
+    /**
+     * 用于创建方法句柄
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     /**
      * 执行一个方法，可以为基本的数据类型进行转化
      */
     public static Object invoke(Object obj, Object[] args, Method method) throws InvocationTargetException, IllegalAccessException {
+        //返回方法的执行结果
+        return method.invoke(obj, convertArgs(args, method));
+    }
+
+    /**
+     * 将参数转化为方法的参数类型
+     *
+     * @param args   参数
+     * @param method 方法
+     * @return 转化后的参数，是一个新的数组
+     */
+    public static Object[] convertArgs(Object[] args, Method method) {
         //获取参数的数据类型数组，准备转化数据类型
-        Parameter[] parameters = method.getParameters();
+        Class<?>[] parameterTypes = method.getParameterTypes();
         //如果传入参数与方法参数数量不符 ，抛出异常
         //不知道是否能识别 String... args 这种参数
-        if (args.length != parameters.length) {
+        if (args.length != parameterTypes.length) {
             throw new MockException();
         }
         //创建一个新的Object数组保存转化后的参数，如果使用原数组的话会抛异常：ArrayStoreException
         Object[] newArr = new Object[args.length];
         //遍历参数并转化
-        for (int i = 0; i < parameters.length; i++) {
+        for (int i = 0; i < parameterTypes.length; i++) {
             //使用BeanUtils的数据类型器对参数的数据类型进行转化
             //保存至新的参数集
-            Class<?> paramType = parameters[i].getType();
+            Class<?> paramType = parameterTypes[i];
             Object arg = args[i];
-            if (arg.getClass().equals(paramType)) {
+            if (arg == null || arg.getClass().equals(paramType)) {
                 newArr[i] = arg;
             } else {
                 newArr[i] = ConvertUtils.convert(arg, paramType);
             }
         }
+        return newArr;
+    }
 
-        //返回方法的执行结果
-        return method.invoke(obj, newArr);
+    /**
+     * 类的无参构造方法句柄，句柄的类型为 ()Object
+     *
+     * @return 方法句柄，没有可以访问的无参构造方法时返回null
+     */
+    public static MethodHandle constructor(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            trySetAccessible(constructor);
+            return LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * getter方法的句柄，句柄的类型为 (Object)Object
+     *
+     * @param getter getter方法，可以为null
+     * @return 方法句柄，无法访问时返回null
+     */
+    public static MethodHandle getter(Method getter) {
+        if (getter == null) {
+            return null;
+        }
+        try {
+            trySetAccessible(getter);
+            return LOOKUP.unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 字段的赋值句柄，句柄的类型为 (Object, Object)void。
+     * 优先使用setter方法，没有setter方法时直接为非final的字段赋值
+     *
+     * @param field  字段
+     * @param setter setter方法，可以为null
+     * @return 方法句柄，无法赋值时返回null
+     */
+    public static MethodHandle setter(Field field, Method setter) {
+        MethodType type = MethodType.methodType(void.class, Object.class, Object.class);
+        if (setter != null) {
+            try {
+                trySetAccessible(setter);
+                return LOOKUP.unreflect(setter).asType(type);
+            } catch (IllegalAccessException ignored) {
+                //setter方法无法访问时尝试直接为字段赋值
+            }
+        }
+        if (field == null || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        try {
+            trySetAccessible(field);
+            return LOOKUP.unreflectSetter(field).asType(type);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 将参数转化为指定的类型，已经是此类型时不做处理
+     *
+     * @param arg  参数
+     * @param type 目标类型，基本数据类型需要传入对应的包装类型
+     */
+    public static Object convertArg(Object arg, Class<?> type) {
+        if (arg == null || type.isInstance(arg)) {
+            return arg;
+        }
+        return ConvertUtils.convert(arg, type);
+    }
+
+    /**
+     * 基本数据类型对应的包装类型，其他类型返回自身
+     */
+    public static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static void trySetAccessible(AccessibleObject accessible) {
+        try {
+            accessible.setAccessible(true);
+        } catch (RuntimeException ignored) {
+            //模块不开放时仍然按公共成员访问
+        }
+    }
+
+    /**
+     * 将方法与参数绑定为一个无参的方法句柄，句柄的类型为 ()Object。
+     * 参数只在此时转化一次，之后每次执行都是直接调用。
+     *
+     * @param obj    执行方法的对象，静态方法为null
+     * @param args   参数
+     * @param method 方法
+     * @return 方法句柄
+     */
+    public static MethodHandle bind(Object obj, Object[] args, Method method) throws IllegalAccessException {
+        Object[] converted = convertArgs(args, method);
+        MethodHandle handle = LOOKUP.unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(obj);
+        }
+        if (converted.length > 0) {
+            handle = MethodHandles.insertArguments(handle, 0, converted);
+        }
+        return handle.asType(MethodType.methodType(Object.class));
     }
 
     /**
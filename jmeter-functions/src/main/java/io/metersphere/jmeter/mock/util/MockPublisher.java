@@ -0,0 +1,240 @@
+package io.metersphere.jmeter.mock.util;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 按需获取假数据的{@link Flow.Publisher}<br>
+ * 每个订阅者独立获取，只有订阅者通过request(n)请求后才会获取，获取在指定的线程池中执行，
+ * 一次执行最多连续发送一个批次，未发送完的需求重新提交到线程池，不会长时间占用线程。
+ * 内存中不保存已获取的值，适合将大量数据交给异步的写入方。
+ *
+ * @param <T> 值的类型
+ */
+public final class MockPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * 获取数量为此值时不会结束
+     */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    /**
+     * 默认每次执行最多连续发送的数量
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Supplier<? extends T> getter;
+
+    private final long count;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    /**
+     * 使用公共线程池与默认批次大小
+     *
+     * @param getter 单值获取器
+     * @param count  获取数量，为{@link #UNBOUNDED}时不会结束
+     */
+    public MockPublisher(Supplier<? extends T> getter, long count) {
+        this(getter, count, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param getter    单值获取器
+     * @param count     获取数量，为{@link #UNBOUNDED}时不会结束
+     * @param executor  执行获取的线程池
+     * @param batchSize 每次执行最多连续发送的数量
+     */
+    public MockPublisher(Supplier<? extends T> getter, long count, Executor executor, int batchSize) {
+        if (count < 0) {
+            throw new MockException("获取数量不能小于0：" + count);
+        }
+        if (batchSize <= 0) {
+            throw new MockException("批次大小需要大于0：" + batchSize);
+        }
+        this.getter = Objects.requireNonNull(getter);
+        this.count = count;
+        this.executor = Objects.requireNonNull(executor);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        MockSubscription<T> subscription = new MockSubscription<>(subscriber, this);
+        subscriber.onSubscribe(subscription);
+        //数量为0时不需要请求也会结束
+        subscription.schedule();
+    }
+
+    /**
+     * 一个订阅者的订阅<br>
+     * request与cancel可以在任意线程中调用，发送只在线程池中进行，由wip保证同一时间只有一个线程在发送
+     */
+    private static final class MockSubscription<T> implements Flow.Subscription, Runnable {
+
+        /**
+         * 取消或终止后置为null，不再持有订阅者与取值函数的引用（规范3.13）
+         */
+        private volatile Flow.Subscriber<? super T> subscriber;
+
+        private volatile Supplier<? extends T> getter;
+
+        private final Executor executor;
+
+        private final int batchSize;
+
+        private final boolean unbounded;
+
+        /**
+         * 剩余数量，只在发送时读写
+         */
+        private long remaining;
+
+        /**
+         * 尚未满足的需求
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * 需要处理的次数，从0变为非0的线程负责提交到线程池
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        /**
+         * request的参数不大于0时记录的异常，在发送线程中通知订阅者
+         */
+        private volatile Throwable invalidRequest;
+
+        private MockSubscription(Flow.Subscriber<? super T> subscriber, MockPublisher<T> publisher) {
+            this.subscriber = subscriber;
+            this.getter = publisher.getter;
+            this.executor = publisher.executor;
+            this.batchSize = publisher.batchSize;
+            this.unbounded = publisher.count == UNBOUNDED;
+            this.remaining = publisher.count;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request的数量需要大于0：" + n);
+            } else {
+                //累加需求，溢出时按无限处理
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            clear();
+        }
+
+        /**
+         * 标记为已取消并释放引用
+         *
+         * @return 释放前的订阅者，已经释放过时返回null
+         */
+        private Flow.Subscriber<? super T> clear() {
+            cancelled = true;
+            Flow.Subscriber<? super T> current = subscriber;
+            subscriber = null;
+            getter = null;
+            return current;
+        }
+
+        private void error(Throwable e) {
+            Flow.Subscriber<? super T> current = clear();
+            if (current != null) {
+                current.onError(e);
+            }
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                error(e);
+            }
+        }
+
+        /**
+         * 发送循环，每次最多发送一个批次
+         */
+        @Override
+        public void run() {
+            int missed = wip.get();
+            while (true) {
+                Flow.Subscriber<? super T> subscriber = this.subscriber;
+                Supplier<? extends T> getter = this.getter;
+                if (cancelled || subscriber == null || getter == null) {
+                    return;
+                }
+                Throwable error = invalidRequest;
+                if (error != null) {
+                    error(error);
+                    return;
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted < demand && emitted < batchSize && (unbounded || remaining > 0)) {
+                    T value;
+                    try {
+                        value = getter.get();
+                        if (value == null) {
+                            throw new MockException("获取的值为null，无法发送");
+                        }
+                    } catch (Throwable e) {
+                        error(e);
+                        return;
+                    }
+                    if (!unbounded) {
+                        remaining--;
+                    }
+                    subscriber.onNext(value);
+                    emitted++;
+                    if (cancelled) {
+                        return;
+                    }
+                }
+                if (!unbounded && remaining == 0) {
+                    if (clear() != null) {
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                if (emitted > 0 && demand != Long.MAX_VALUE) {
+                    demand = requested.addAndGet(-emitted);
+                }
+                if (emitted == batchSize && demand > 0) {
+                    //批次已满且还有需求，让出线程，重新提交到线程池继续发送
+                    submit();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.metersphere.jmeter.mock.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 按数量获取假数据的{@link Spliterator}<br>
+ * 每个值都由获取器独立生成，值与值之间没有先后依赖，因此不声明ORDERED，拆分时直接按剩余数量对半分，
+ * 两部分的数量都是确定的（SIZED、SUBSIZED），并行流可以均匀地拆分到各个线程，limit等操作也不需要保持顺序。
+ *
+ * @param <T> 值的类型
+ */
+public final class MockSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | IMMUTABLE;
+
+    /**
+     * 单值获取器，并行时会在多个线程中同时调用
+     */
+    private final Supplier<? extends T> getter;
+
+    /**
+     * 剩余数量
+     */
+    private long remaining;
+
+    /**
+     * @param getter 单值获取器
+     * @param size   获取数量，小于0时按0处理
+     */
+    public MockSpliterator(Supplier<? extends T> getter, long size) {
+        this.getter = Objects.requireNonNull(getter);
+        this.remaining = Math.max(size, 0);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (remaining <= 0) {
+            return false;
+        }
+        remaining--;
+        action.accept(getter.get());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        long count = remaining;
+        remaining = 0;
+        for (long i = 0; i < count; i++) {
+            action.accept(getter.get());
+        }
+    }
+
+    /**
+     * 将剩余数量的一半拆分出去
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (remaining < 2) {
+            return null;
+        }
+        long half = remaining >>> 1;
+        remaining -= half;
+        return new MockSpliterator<>(getter, half);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -2,11 +2,9 @@ package io.metersphere.jmeter.mock.util;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.text.SimpleDateFormat;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Date;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import static io.metersphere.jmeter.mock.util.ChineseUtils.getFamilyName;
 
@@ -27,26 +25,24 @@ public class MockUtils {
 
     /* —————————— 默认参数 ———————————— */
     /**
-     * {@link #randomDateTime()}默认使用的格式化参数
+     * {@link #date()}默认使用的格式化参数
      */
-    private static final String DATE_FORMAT;
-
-    private static final SimpleDateFormat SIMPLE_DATE_FORMAT;
-
+    private static final String DATE_FORMAT = "yyyy-dd-MM";
 
     /**
      * {@link #time()}默认使用的格式化参数
      */
-    private static final String TIME_FORMAT;
-
-    private static final SimpleDateFormat SIMPLE_DATETIME_FORMAT;
+    private static final String TIME_FORMAT = "HH:mm:ss";
 
     /**
      * {@link #toDateTime()}默认使用的格式化参数
      */
-    private static final String DATETIME_FORMAT;
+    private static final String DATETIME_FORMAT = "yyyy-dd-MM HH:mm:ss";
 
-    private static final SimpleDateFormat SIMPLE_TIME_FORMAT;
+    /**
+     * {@link #doubles(Integer, Integer, Integer, Integer)}直接舍入的最多小数位数，10的22次方以内可以用double精确表示
+     */
+    private static final int MAX_EXACT_SCALE = 22;
 
     /**
      * 顶级域名合集
@@ -60,16 +56,6 @@ public class MockUtils {
         String domainStr = "top,xyz,xin,vip,win,red,net,org,wang,gov,edu,mil,biz,name,info,mobi,pro,travel,club,museum,int,aero,post,rec,asia";
         DOMAINS = domainStr.split(",");
 
-        // 日期格式化
-        DATE_FORMAT = "yyyy-dd-MM";
-        SIMPLE_DATE_FORMAT = new SimpleDateFormat(DATE_FORMAT);
-
-        DATETIME_FORMAT = "yyyy-dd-MM HH:mm:ss";
-        SIMPLE_DATETIME_FORMAT = new SimpleDateFormat(DATE_FORMAT);
-
-        TIME_FORMAT = "HH:mm:ss";
-        SIMPLE_TIME_FORMAT = new SimpleDateFormat(DATE_FORMAT);
-
     }
 
 
@@ -254,14 +240,33 @@ public class MockUtils {
 
 
     /**
-     * 获取一个UUID
+     * 获取一个UUID（版本4）
      */
     public static String UUID() {
-        return RandomUtils.getUUID();
+        return UUIDUtils.v4();
     }
 
+    /**
+     * 获取一个UUID（版本4）
+     */
     public static String uuid() {
-        return RandomUtils.getUUID();
+        return UUIDUtils.v4();
+    }
+
+    /**
+     * 获取指定版本的UUID
+     *
+     * @param version 4、7、ulid，或者 secure 使用加密强度的随机数
+     */
+    public static String uuid(String version) {
+        return UUIDUtils.generate(version);
+    }
+
+    /**
+     * 获取一个ULID
+     */
+    public static String ulid() {
+        return UUIDUtils.ulid();
     }
 
 
@@ -272,66 +277,49 @@ public class MockUtils {
      * 时间：1990 - 现在
      */
     public static Date randomDateTime() {
-        Calendar calendar = Calendar.getInstance();
-        //设置年份等参数
-        int nowYear = calendar.get(Calendar.YEAR);
-        int nowDay = calendar.get(Calendar.DAY_OF_YEAR);
-
-        //设置随机年份
-        calendar.set(Calendar.YEAR, RandomUtils.getNumberWithRight(1990, nowYear));
-        //设置随机日期
-        calendar.set(Calendar.DAY_OF_YEAR, RandomUtils.getNumberWithRight(1, nowDay));
-        //设置随机小时
-        calendar.set(Calendar.HOUR_OF_DAY, RandomUtils.getNumberWithRight(1, 24));
-        //设置随机分钟
-        calendar.set(Calendar.MINUTE, RandomUtils.getNumberWithRight(1, 60));
-        //设置随机秒
-        calendar.set(Calendar.SECOND, RandomUtils.getNumberWithRight(1, 60));
-
-        //返回随机日期
-        return calendar.getTime();
+        return new Date(DateUtils.randomMillis());
     }
 
     /**
      * 返回一个随机日期的字符串
      */
     public static String date(String format) {
-        return new SimpleDateFormat(format).format(randomDateTime());
+        return DateUtils.format(format, DateUtils.randomMillis());
     }
 
     /**
      * 返回一个随机日期的字符串，格式为yyyy-dd-MM
      */
     public static String date() {
-        return SIMPLE_DATE_FORMAT.format(randomDateTime());
+        return date(DATE_FORMAT);
     }
 
     /**
      * 返回一个随机日期的字符串
      */
     public static String dateTime(String format) {
-        return new SimpleDateFormat(format).format(randomDateTime());
+        return DateUtils.format(format, DateUtils.randomMillis());
     }
 
     /**
-     * 返回一个随机日期的字符串，格式为yyyy-dd-MM
+     * 返回一个随机日期时间的字符串，格式为yyyy-dd-MM HH:mm:ss
      */
     public static String dateTime() {
-        return SIMPLE_DATE_FORMAT.format(randomDateTime());
+        return dateTime(DATETIME_FORMAT);
     }
 
     /**
-     * 返回一个随机日期的字符串
+     * 返回当前时间的字符串
      */
     public static String now(String format) {
-        return new SimpleDateFormat(format).format(System.currentTimeMillis());
+        return DateUtils.now(format);
     }
 
     /**
-     * 返回一个随机日期的字符串，格式为yyyy-dd-MM
+     * 返回当前日期的字符串，格式为yyyy-dd-MM
      */
     public static String now() {
-        return SIMPLE_DATE_FORMAT.format(System.currentTimeMillis());
+        return now(DATE_FORMAT);
     }
 
 
@@ -339,28 +327,28 @@ public class MockUtils {
      * 返回一个随机时间的字符串
      */
     public static String time(String format) {
-        return new SimpleDateFormat(format).format(randomDateTime());
+        return DateUtils.format(format, DateUtils.randomMillis());
     }
 
     /**
      * 返回一个随机时间的字符串，格式为HH:mm:ss
      */
     public static String time() {
-        return SIMPLE_TIME_FORMAT.format(randomDateTime());
+        return time(TIME_FORMAT);
     }
 
     /**
      * 返回一个随机时间日期的字符串
      */
     public static String toDateTime(String format) {
-        return new SimpleDateFormat(format).format(randomDateTime());
+        return DateUtils.format(format, DateUtils.randomMillis());
     }
 
     /**
      * 返回一个随机日期时间的字符串，格式为yyyy-dd-MM HH:mm:ss
      */
     public static String toDateTime() {
-        return SIMPLE_DATETIME_FORMAT.format(randomDateTime());
+        return toDateTime(DATETIME_FORMAT);
     }
 
     /* —————————— number age —————————— */
@@ -413,7 +401,14 @@ public class MockUtils {
         int integer = integer(a, b);
         //获取小数位数值
         int end = RandomUtils.getNumberWithRight(endL, endR);
-        double dou = Double.parseDouble(RandomUtils.toFixed(RandomUtils.getRandom().nextDouble(), end));
+        double dou = RandomUtils.getGenerator().nextDouble();
+        if (end <= MAX_EXACT_SCALE) {
+            //10的end次方可以精确表示，直接舍入，不经过字符串
+            double pow = Math.pow(10, end);
+            dou = Math.rint(dou * pow) / pow;
+        } else {
+            dou = Double.parseDouble(RandomUtils.toFixed(dou, end));
+        }
         return integer + dou;
     }
 
@@ -443,12 +438,7 @@ public class MockUtils {
      * 获取一个32位的随机数字
      */
     public static String UUNUM() {
-        int length = 32;
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(integer());
-        }
-        return sb.toString();
+        return FormatUtils.randomDigits(32);
     }
 
     /**
@@ -467,11 +457,7 @@ public class MockUtils {
     public static String getNumber(Integer min, Integer max) {
         //获取长度
         int length = RandomUtils.getNumberWithRight(min, max);
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(integer());
-        }
-        return sb.toString();
+        return FormatUtils.randomDigits(length);
     }
 
 
@@ -608,7 +594,7 @@ public class MockUtils {
      * 返回一个随机布尔值
      */
     public static Boolean bool() {
-        return RandomUtils.getRandom().nextBoolean();
+        return RandomUtils.getGenerator().nextBoolean();
     }
 
     /**
@@ -673,25 +659,31 @@ public class MockUtils {
      * @param max 单词最多数量
      */
     public static String csentence(Integer min, Integer max) {
-        StringBuilder sb = new StringBuilder();
         int num = RandomUtils.getNumberWithRight(min, max);
-        for (int i = 1; i <= num; i++) {
-            //首句子字母大写
-            sb.append(cword());
-            if (i == num) {
-                //30%概率为！结尾
-                if (RandomUtils.getProbability(0.3)) {
-                    sb.append("！");
-                    //否则30%概率？结尾
-                } else if (RandomUtils.getProbability(0.3)) {
-                    sb.append("？");
-                    //否则。结尾
-                } else {
-                    sb.append("。");
-                }
+        return appendCsentence(new StringBuilder(num + 1), num).toString();
+    }
+
+    /**
+     * 向StringBuilder中追加一个随机假中文句子
+     *
+     * @param num 单词数量
+     */
+    private static StringBuilder appendCsentence(StringBuilder sb, int num) {
+        //每个单词为一个汉字
+        ChineseUtils.appendChinese(sb, num);
+        if (num > 0) {
+            //30%概率为！结尾
+            if (RandomUtils.getProbability(0.3)) {
+                sb.append('！');
+                //否则30%概率？结尾
+            } else if (RandomUtils.getProbability(0.3)) {
+                sb.append('？');
+                //否则。结尾
+            } else {
+                sb.append('。');
             }
         }
-        return sb.toString();
+        return sb;
     }
 
 
@@ -743,9 +735,10 @@ public class MockUtils {
      */
     public static String cparagraph(Integer min, Integer max) {
         int num = RandomUtils.getNumberWithRight(min, max);
-        StringBuilder sb = new StringBuilder(num);
+        //每个句子5-10个汉字加一个标点
+        StringBuilder sb = new StringBuilder(num * 11);
         for (int i = 1; i <= num; i++) {
-            sb.append(csentence());
+            appendCsentence(sb, RandomUtils.getNumberWithRight(5, 10));
         }
         return sb.toString();
     }
@@ -771,7 +764,7 @@ public class MockUtils {
      * 获取一个随机IP
      */
     public static String ip() {
-        Random random = RandomUtils.getRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return (random.nextInt(255) + 1) +
                 "." +
                 (random.nextInt(255) + 1) +
@@ -820,7 +813,7 @@ public class MockUtils {
      * @param tid 指定顶级域名
      */
     public static String domain(String tid) {
-        if (RandomUtils.getRandom().nextBoolean()) {
+        if (RandomUtils.getGenerator().nextBoolean()) {
             return "www." + word() + "." + tid;
         }
         return word() + '.' + tid;
@@ -874,7 +867,7 @@ public class MockUtils {
     /* —————————————————————— natural —————————————————————— */
 
     public static float floatNumber(int min, int max, int minDecimalPlaces, int maxDecimalPlaces) {
-        Random random = new Random();
+        RandomGenerator random = RandomUtils.getGenerator();
         double randomNumber = min + (max - min) * random.nextDouble(); // 生成1到10之间的随机浮点数
 
         // 生成随机小数部分位数
@@ -885,8 +878,7 @@ public class MockUtils {
     }
 
     public static float floatNumber() {
-        Random random = RandomUtils.getLocalRandom();
-        return random.nextFloat();
+        return RandomUtils.getGenerator().nextFloat();
     }
 
     public static String range(int start, int stop, int step) {
@@ -995,4 +987,95 @@ public class MockUtils {
         return RandomUtils.randomCounty(false);
     }
 
+    /* —————————————————————— increment —————————————————————— */
+
+    /**
+     * 默认的自增序列，从1起，步长为1
+     */
+    public static Long increment() {
+        return increment("1");
+    }
+
+    /**
+     * 自增序列
+     *
+     * @param stepOrName 数字时作为默认序列的步长，从1起；否则作为序列名称，从1起，步长为1
+     */
+    public static Long increment(String stepOrName) {
+        long step;
+        try {
+            step = Long.parseLong(stepOrName);
+        } catch (NumberFormatException e) {
+            return IncrementSequence.get(stepOrName, 1, 1).next();
+        }
+        return IncrementSequence.get("@increment(" + step + ")", 1, step).next();
+    }
+
+    /**
+     * 自增序列，步长为1
+     *
+     * @param name  序列名称
+     * @param start 起始值
+     */
+    public static Long increment(String name, Long start) {
+        return IncrementSequence.get(name, start, 1).next();
+    }
+
+    /**
+     * 自增序列
+     *
+     * @param name  序列名称
+     * @param start 起始值
+     * @param step  步长
+     */
+    public static Long increment(String name, Long start, Long step) {
+        return IncrementSequence.get(name, start, step).next();
+    }
+
+    /**
+     * 自增序列
+     *
+     * @param name      序列名称
+     * @param start     起始值
+     * @param step      步长
+     * @param blockSize 每个线程每次领取的序号数量
+     */
+    public static Long increment(String name, Long start, Long step, Integer blockSize) {
+        return IncrementSequence.get(name, start, step, blockSize, false).next();
+    }
+
+    /**
+     * 自增序列
+     *
+     * @param name      序列名称
+     * @param start     起始值
+     * @param step      步长
+     * @param blockSize 每个线程每次领取的序号数量
+     * @param ordered   是否全局严格递增，为true时忽略blockSize
+     */
+    public static Long increment(String name, Long start, Long step, Integer blockSize, Boolean ordered) {
+        return IncrementSequence.get(name, start, step, blockSize, ordered).next();
+    }
+
+    /* —————————————————————— unique —————————————————————— */
+
+    /**
+     * 不重复的随机值，在取值区间用完之前不会重复
+     *
+     * @param directive 指令名称，支持：phoneNumber、idCard、UUNUM、getNumber(长度)
+     */
+    public static String unique(String directive) {
+        return UniqueUtils.generate(directive);
+    }
+
+    /**
+     * 不重复的随机值，在取值区间用完之前不会重复
+     *
+     * @param directive 指令名称，支持：getNumber
+     * @param length    长度
+     */
+    public static String unique(String directive, Integer length) {
+        return UniqueUtils.generate(directive, length);
+    }
+
 }
@@ -0,0 +1,246 @@
+package io.metersphere.jmeter.mock.util;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * 随机数来源，所有的随机值都从这里获取<br>
+ * 算法可以通过属性 mock.random.algorithm 指定，取值为 ThreadLocalRandom（默认）
+ * 或{@link RandomGeneratorFactory}支持的算法名，例如：SplittableRandom、Xoshiro256PlusPlus、L64X128MixRandom。<br>
+ * 除ThreadLocalRandom外，每个线程持有一个独立的生成器实例，线程之间不共享状态。<br>
+ * 通过属性 mock.random.seed 指定种子后进入可复现模式：每个线程的生成器由种子与线程名（JMeter中包含线程组与线程编号）
+ * 共同决定，重复执行同一个测试计划时，每个线程得到相同的随机序列。此时ThreadLocalRandom不能指定种子，改用SplittableRandom。
+ * 随机日期不再以当前时间为截止时间，而是使用属性 mock.random.epoch 指定的固定日期，在不同的日期重复执行结果也相同。
+ */
+public final class RandomSource {
+
+    /**
+     * 指定随机数算法的属性名，JMeter中可以在jmeter.properties或-J参数中设置，也可以通过系统属性设置
+     */
+    public static final String ALGORITHM_PROPERTY = "mock.random.algorithm";
+
+    /**
+     * 指定随机数种子的属性名，不设置时不可复现
+     */
+    public static final String SEED_PROPERTY = "mock.random.seed";
+
+    /**
+     * 可复现模式下随机日期截止日期的属性名，格式为yyyy-MM-dd
+     */
+    public static final String EPOCH_PROPERTY = "mock.random.epoch";
+
+    /**
+     * 可复现模式下默认的截止日期
+     */
+    public static final LocalDate DEFAULT_EPOCH = LocalDate.of(2025, 1, 1);
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * 默认的算法
+     */
+    public static final String DEFAULT_ALGORITHM = "ThreadLocalRandom";
+
+    private static final Logger logger = Logger.getLogger(RandomSource.class.getCanonicalName());
+
+    private static volatile Source source = initialSource();
+
+    private RandomSource() {
+    }
+
+    /**
+     * 当前线程的随机数生成器，不能在线程之间共享
+     */
+    public static RandomGenerator current() {
+        return source.current();
+    }
+
+    /**
+     * 当前使用的算法名
+     */
+    public static String algorithm() {
+        return source.algorithm;
+    }
+
+    /**
+     * 当前的种子，不可复现时为null
+     */
+    public static Long seed() {
+        return source.seed;
+    }
+
+    /**
+     * 随机日期的截止日期（epoch day）：可复现模式下为指定的固定日期，否则为系统默认时区的今天
+     */
+    public static long today() {
+        Source current = source;
+        if (current.seed != null) {
+            return current.epoch.toEpochDay();
+        }
+        long now = System.currentTimeMillis();
+        return Math.floorDiv(now + TimeZone.getDefault().getOffset(now), MILLIS_PER_DAY);
+    }
+
+    /**
+     * 切换随机数算法，不使用种子
+     *
+     * @param algorithm 算法名，为空时使用默认算法
+     * @throws MockException 不支持的算法
+     */
+    public static void configure(String algorithm) {
+        configure(algorithm, null);
+    }
+
+    /**
+     * 切换随机数算法与种子，与当前配置相同时不做任何处理。<br>
+     * 配置变化后，各个线程在下一次取值时按新的配置重新创建生成器。
+     *
+     * @param algorithm 算法名，为空时使用默认算法
+     * @param seed      种子，为null时不可复现
+     * @return 配置是否发生了变化
+     * @throws MockException 不支持的算法
+     */
+    public static boolean configure(String algorithm, Long seed) {
+        return configure(algorithm, seed, null);
+    }
+
+    /**
+     * 切换随机数算法、种子与可复现模式下的截止日期，与当前配置相同时不做任何处理
+     *
+     * @param algorithm 算法名，为空时使用默认算法
+     * @param seed      种子，为null时不可复现
+     * @param epoch     可复现模式下随机日期的截止日期，为null时使用{@link #DEFAULT_EPOCH}
+     * @return 配置是否发生了变化
+     * @throws MockException 不支持的算法
+     */
+    public static synchronized boolean configure(String algorithm, Long seed, LocalDate epoch) {
+        String name = algorithm == null || algorithm.trim().isEmpty() ? DEFAULT_ALGORITHM : algorithm.trim();
+        LocalDate epochDate = epoch == null ? DEFAULT_EPOCH : epoch;
+        if (name.equals(source.algorithm) && Objects.equals(seed, source.seed) && epochDate.equals(source.epoch)) {
+            return false;
+        }
+        source = Source.of(name, seed, epochDate);
+        return true;
+    }
+
+    /**
+     * 解析种子属性，空字符串表示不使用种子
+     *
+     * @throws MockException 种子不是整数
+     */
+    public static Long parseSeed(String seed) {
+        if (seed == null || seed.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(seed.trim());
+        } catch (NumberFormatException e) {
+            throw new MockException("随机数种子需要为整数：" + seed);
+        }
+    }
+
+    /**
+     * 解析截止日期属性，空字符串表示使用默认日期
+     *
+     * @throws MockException 日期不是yyyy-MM-dd格式
+     */
+    public static LocalDate parseEpoch(String epoch) {
+        if (epoch == null || epoch.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(epoch.trim());
+        } catch (DateTimeParseException e) {
+            throw new MockException("截止日期需要为yyyy-MM-dd格式：" + epoch);
+        }
+    }
+
+    private static Source initialSource() {
+        String algorithm = System.getProperty(ALGORITHM_PROPERTY, DEFAULT_ALGORITHM);
+        try {
+            LocalDate epoch = parseEpoch(System.getProperty(EPOCH_PROPERTY));
+            return Source.of(algorithm, parseSeed(System.getProperty(SEED_PROPERTY)), epoch == null ? DEFAULT_EPOCH : epoch);
+        } catch (MockException e) {
+            logger.warning(e.getMessage() + "，使用默认算法" + DEFAULT_ALGORITHM);
+            return Source.of(DEFAULT_ALGORITHM, null, DEFAULT_EPOCH);
+        }
+    }
+
+    /**
+     * 由种子与线程名得到线程的种子，线程名相同时结果相同
+     */
+    private static long threadSeed(long seed, String threadName) {
+        //FNV-1a
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < threadName.length(); i++) {
+            hash ^= threadName.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix64(seed ^ mix64(hash));
+    }
+
+    /**
+     * SplitMix64的混合函数
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 一种算法与它在各个线程中的生成器
+     */
+    private static final class Source {
+        private final String algorithm;
+
+        private final Long seed;
+
+        private final LocalDate epoch;
+
+        /**
+         * 为null时使用ThreadLocalRandom
+         */
+        private final ThreadLocal<RandomGenerator> generators;
+
+        private Source(String algorithm, Long seed, LocalDate epoch, ThreadLocal<RandomGenerator> generators) {
+            this.algorithm = algorithm;
+            this.seed = seed;
+            this.epoch = epoch;
+            this.generators = generators;
+        }
+
+        private RandomGenerator current() {
+            return generators == null ? ThreadLocalRandom.current() : generators.get();
+        }
+
+        private static Source of(String algorithm, Long seed, LocalDate epoch) {
+            RandomGeneratorFactory<RandomGenerator> factory = null;
+            if (!DEFAULT_ALGORITHM.equals(algorithm)) {
+                try {
+                    factory = RandomGeneratorFactory.of(algorithm);
+                } catch (IllegalArgumentException e) {
+                    throw new MockException("不支持的随机数算法：" + algorithm, e);
+                }
+            }
+            if (seed == null) {
+                return new Source(algorithm, null, epoch, factory == null ? null : ThreadLocal.withInitial(factory::create));
+            }
+            long rootSeed = seed;
+            RandomGeneratorFactory<RandomGenerator> seededFactory = factory;
+            return new Source(algorithm, seed, epoch, ThreadLocal.withInitial(() -> {
+                long threadSeed = threadSeed(rootSeed, Thread.currentThread().getName());
+                return seededFactory == null ? new SplittableRandom(threadSeed) : seededFactory.create(threadSeed);
+            }));
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package io.metersphere.jmeter.mock.util;
 
 import java.awt.*;
-import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * 随机值获取工具类
@@ -295,30 +296,99 @@ public class RandomUtils {
             620982, 110107, 350429, 623021, 230708, 371328, 131082, 441825, 370783, 610400, 140781, 421122,
     };
 
-    private static final int[] calcC = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
-
-    private static final char[] calcR = {'1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2'};
-
     // ------------------------------- 部分测试数据---------------------------
 
     /**
-     * 保存一个单例Random
+     * 获取当前线程的随机数生成器，算法见{@link RandomSource}。
      */
-    private static final Random LOCAL_RANDOM = new Random();
+    public static RandomGenerator getGenerator() {
+        return RandomSource.current();
+    }
 
     /**
-     * 获取一个Random实例。
-     * 是一个线程ThreadLocalRandom对象。
+     * 获取当前线程的ThreadLocalRandom，不受 mock.random.algorithm 与 mock.random.seed 的影响。
+     * 需要按配置生成随机数时使用{@link #getGenerator()}
      */
     public static ThreadLocalRandom getRandom() {
         return ThreadLocalRandom.current();
     }
 
     /**
-     * 获取一个单例的Random对象。
+     * 获取当前线程的随机数生成器，以{@link Random}的形式返回，不支持setSeed。
+     *
+     * @deprecated 不再使用共享的Random实例，使用{@link #getGenerator()}
      */
+    @Deprecated
     public static Random getLocalRandom() {
-        return LOCAL_RANDOM;
+        return SourceRandom.INSTANCE;
+    }
+
+    /**
+     * 将{@link RandomSource}适配为{@link Random}，每次调用都使用当前线程的生成器，可以在线程之间共享
+     */
+    private static final class SourceRandom extends Random {
+        private static final long serialVersionUID = 1L;
+
+        private static final SourceRandom INSTANCE = new SourceRandom();
+
+        private final boolean initialized;
+
+        private SourceRandom() {
+            initialized = true;
+        }
+
+        @Override
+        public void setSeed(long seed) {
+            //Random的构造方法会调用setSeed，构造完成后不再支持
+            if (initialized) {
+                throw new UnsupportedOperationException("不支持setSeed，种子通过属性 " + RandomSource.SEED_PROPERTY + " 指定");
+            }
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (RandomSource.current().nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            RandomSource.current().nextBytes(bytes);
+        }
+
+        @Override
+        public int nextInt() {
+            return RandomSource.current().nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return RandomSource.current().nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return RandomSource.current().nextLong();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return RandomSource.current().nextBoolean();
+        }
+
+        @Override
+        public float nextFloat() {
+            return RandomSource.current().nextFloat();
+        }
+
+        @Override
+        public double nextDouble() {
+            return RandomSource.current().nextDouble();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return RandomSource.current().nextGaussian();
+        }
     }
 
     /**
@@ -329,7 +399,7 @@ public class RandomUtils {
     public static int getNumber(int length) {
         length--;
         int pow = (int) Math.pow(10, length);
-        ThreadLocalRandom random = getRandom();
+        RandomGenerator random = getGenerator();
         if (length >= 1) {
             //参照算法：random.nextInt(9000)+1000;
             //(9 * pow)
@@ -344,14 +414,14 @@ public class RandomUtils {
      * 获取一个随机整数
      */
     public static int getInteger() {
-        return getRandom().nextInt(10);
+        return getGenerator().nextInt(10);
     }
 
     /**
      * 获取某个区间中的随机数[a,b)
      */
     public static int getNumber(int a, int b) {
-        return getRandom().nextInt(a, b);
+        return getGenerator().nextInt(a, b);
     }
 
 
@@ -382,14 +452,14 @@ public class RandomUtils {
      * 获取一个随机英文字符，小写
      */
     public static char getRandomChar() {
-        return (char) (RandomUtils.getRandom().nextInt(26) + 97);
+        return (char) (RandomUtils.getGenerator().nextInt(26) + 97);
     }
 
     /**
      * 获取一个随机英文字符，大写
      */
     public static char getRandomUpperChar() {
-        return (char) (RandomUtils.getRandom().nextInt(26) + 65);
+        return (char) (RandomUtils.getGenerator().nextInt(26) + 65);
     }
 
 
@@ -419,7 +489,7 @@ public class RandomUtils {
         for (int i = 0; i < length; i++) {
             //如果开启了随机大写，则有概率将字符转为大写 1/2
             if (randomCase) {
-                crr[i] = RandomUtils.getRandom().nextBoolean() ? getRandomChar() : getRandomUpperChar();
+                crr[i] = RandomUtils.getGenerator().nextBoolean() ? getRandomChar() : getRandomUpperChar();
             } else {
                 crr[i] = getRandomChar();
             }
@@ -451,22 +521,13 @@ public class RandomUtils {
      * @param length 小数保留位数
      */
     public static String toFixed(Number dnum, int length) {
-        final StringBuilder sb = new StringBuilder(2 + length).append("#.");
-        //遍历并设置位数
-        for (int i = 0; i < length; i++) {
-            sb.append('0');
+        if (dnum instanceof BigDecimal) {
+            return FormatUtils.toFixed((BigDecimal) dnum, length);
         }
-
-        //返回结果
-        String formatStr = sb.toString();
-        sb.delete(0, sb.length());
-        String douStr = numFormat(dnum, formatStr);
-        if (douStr.startsWith(".")) {
-            //如果开头是点，说明首位是0，补位
-            sb.append('0');
+        if (dnum instanceof BigInteger || dnum instanceof Long) {
+            return FormatUtils.toFixed(new BigDecimal(dnum.toString()), length);
         }
-        sb.append(douStr);
-        return sb.toString();
+        return FormatUtils.toFixed(dnum.doubleValue(), length);
     }
 
 
@@ -474,7 +535,7 @@ public class RandomUtils {
      * 自定义数字格式化
      */
     public static String numFormat(Number dnum, String formatStr) {
-        return new DecimalFormat(formatStr).format(dnum);
+        return FormatUtils.format(dnum, formatStr);
     }
 
     /* ———————————————————— getColor : 获取随机颜色 ———————————————————————— */
@@ -492,7 +553,7 @@ public class RandomUtils {
      */
     public static int[] randomColor$intArr() {
         final int[] arr = new int[3];
-        Random random = RandomUtils.getRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         arr[0] = random.nextInt(256);
         arr[1] = random.nextInt(256);
         arr[2] = random.nextInt(256);
@@ -529,7 +590,7 @@ public class RandomUtils {
      * @param probR 概率百分比区间的右参数，取值范围为0-1之间，对应了0%和100%
      */
     public static Boolean getProbability(double probL, double probR) {
-        double v = RandomUtils.getRandom().nextDouble();
+        double v = RandomUtils.getGenerator().nextDouble();
         return v >= probL && v <= probR;
     }
 
@@ -553,7 +614,7 @@ public class RandomUtils {
      */
     public static <T> T getRandomElement(T[] trr) {
         Objects.requireNonNull(trr);
-        return trr.length == 0 ? null : trr[RandomUtils.getRandom().nextInt(trr.length)];
+        return trr.length == 0 ? null : trr[RandomUtils.getGenerator().nextInt(trr.length)];
     }
 
     /**
@@ -564,36 +625,36 @@ public class RandomUtils {
      */
     public static <T> T getRandomElement(List<T> trr) {
         Objects.requireNonNull(trr);
-        return trr.isEmpty() ? null : trr.get(RandomUtils.getRandom().nextInt(trr.size()));
+        return trr.isEmpty() ? null : trr.get(RandomUtils.getGenerator().nextInt(trr.size()));
     }
 
     public static String randomProtocol() {
-        Random random = RandomUtils.getRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return PROTOCOLS[random.nextInt(PROTOCOLS.length)];
     }
 
     public static String generateRandomChinaRegion() {
-        Random random = RandomUtils.getRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return CHINA_REGIONS[random.nextInt(CHINA_REGIONS.length)];
     }
 
     public static String randomProvince() {
-        Random random = RandomUtils.getRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return PROVINCES[random.nextInt(PROVINCES.length)];
     }
 
     public static String randomTID() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return TLD[random.nextInt(TLD.length)];
     }
 
     public static String randomCity() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return CHINA_CITIES[random.nextInt(CHINA_CITIES.length)];
     }
 
     public static String randomCounty(boolean prefix) {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         if (prefix) {
             return randomProvince() + " " + randomCity() + " " + COUNTY.get(random.nextInt(COUNTY.size()));
         }
@@ -601,56 +662,56 @@ public class RandomUtils {
     }
 
     public static String englishName() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return COMMON_NAMES[random.nextInt(COMMON_NAMES.length)];
     }
 
     public static String englishSurname() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         return COMMON_SUR_NAMES[random.nextInt(COMMON_SUR_NAMES.length)];
     }
 
     public static String rgb() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         int red = random.nextInt(256);
         int green = random.nextInt(256);
         int blue = random.nextInt(256);
-        return String.format("rgb(%d, %d, %d)", red, green, blue);
+        return FormatUtils.rgb(red, green, blue);
     }
 
     public static String rgb(int red, int green, int blue) {
-        return String.format("rgb(%d, %d, %d)", red, green, blue);
+        return FormatUtils.rgb(red, green, blue);
     }
 
     public static String rgba() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         // Generate random values for red, green, blue, and alpha components
         int red = random.nextInt(256);
         int green = random.nextInt(256);
         int blue = random.nextInt(256);
         float alpha = random.nextFloat(); // Alpha value between 0.0 and 1.0
         // Format the RGBA color string
-        return String.format("rgba(%d, %d, %d, %.2f)", red, green, blue, alpha);
+        return FormatUtils.rgba(red, green, blue, alpha);
     }
 
     public static String rgba(int red, int green, int blue, float alpha) {
         // Format the RGBA color string
-        return String.format("rgba(%d, %d, %d, %.2f)", red, green, blue, alpha);
+        return FormatUtils.rgba(red, green, blue, alpha);
     }
 
     public static String hsl() {
-        Random random = RandomUtils.getLocalRandom();
+        RandomGenerator random = RandomUtils.getGenerator();
         // Generate random values for hue, saturation, and lightness components
         int hue = random.nextInt(360); // Hue is in the range [0, 360)
         int saturation = random.nextInt(101); // Saturation is in the range [0, 100]
         int lightness = random.nextInt(101); // Lightness is in the range [0, 100]
         // Format the HSL color string
-        return String.format("hsl(%d, %d%%, %d%%)", hue, saturation, lightness);
+        return FormatUtils.hsl(hue, saturation, lightness);
     }
 
     public static String hsl(int hue, int saturation, int lightness) {
         // Format the HSL color string
-        return String.format("hsl(%d, %d%%, %d%%)", hue, saturation, lightness);
+        return FormatUtils.hsl(hue, saturation, lightness);
     }
 
 
@@ -663,67 +724,35 @@ public class RandomUtils {
     }
 
     public static String zip() {
-        Random random = RandomUtils.getLocalRandom();
-        int postalCode = 100000 + random.nextInt(900000);
-        return String.format("%06d", postalCode);
+        return IdentityGenerator.zip();
     }
 
     public static String phoneNumber() {
-        Random random = RandomUtils.getLocalRandom();
-        // Generate a random 11-digit phone number
-        StringBuilder phoneNumberBuilder = new StringBuilder("1"); // Start with the country code (China: +86)
-        for (int i = 0; i < 10; i++) {
-            phoneNumberBuilder.append(random.nextInt(10));
-        }
-        return phoneNumberBuilder.toString();
+        return IdentityGenerator.phoneNumber();
     }
 
     public static String getIdNo(boolean male) {
-        //随机生成生日 1~99岁
-        long begin = System.currentTimeMillis() - 3153600000000L;//100年内
-        long end = System.currentTimeMillis() - 31536000000L; //1年内
-        long rtn = begin + (long) (Math.random() * (end - begin));
-        Date date = new Date(rtn);
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyyMMdd");
-        String birth = simpleDateFormat.format(date);
-        return getIdNo(birth, male);
-
+        //随机生成生日 1~100岁
+        return IdentityGenerator.idCard(male);
     }
 
     public static String getIdNo(String birth, boolean male) {
-        StringBuilder sb = new StringBuilder();
-        Random random = new Random();
-        int value = random.nextInt(CITIES.length);
-        sb.append(CITIES[value]);
-        sb.append(birth);
-        value = random.nextInt(999) + 1;
-        if (male && value % 2 == 0) {
-            value++;
-        }
-        if (!male && value % 2 == 1) {
-            value++;
-        }
-        if (value >= 100) {
-            sb.append(value);
-        } else if (value >= 10) {
-            sb.append('0').append(value);
-        } else {
-            sb.append("00").append(value);
-        }
-        sb.append(calcTrailingNumber(sb));
-        return sb.toString();
+        return IdentityGenerator.idCard(birth, male);
+    }
 
+    /**
+     * 身份证号可用的地区码
+     *
+     * @param index 下标，[0, {@link #getIdNoCityCount()})
+     */
+    static int getIdNoCity(int index) {
+        return CITIES[index];
     }
 
-    private static char calcTrailingNumber(StringBuilder sb) {
-        int[] n = new int[17];
-        int result = 0;
-        for (int i = 0; i < n.length; i++) {
-            n[i] = Integer.parseInt(String.valueOf(sb.charAt(i)));
-        }
-        for (int i = 0; i < n.length; i++) {
-            result += calcC[i] * n[i];
-        }
-        return calcR[result % 11];
+    /**
+     * 身份证号可用的地区码数量
+     */
+    static int getIdNoCityCount() {
+        return CITIES.length;
     }
 }
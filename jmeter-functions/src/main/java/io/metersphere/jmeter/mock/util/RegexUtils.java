@@ -3,10 +3,12 @@ package io.metersphere.jmeter.mock.util;
 import io.metersphere.jmeter.mock.exception.RegexpIllegalException;
 import io.metersphere.jmeter.mock.exception.TypeNotMatchException;
 import io.metersphere.jmeter.mock.exception.UninitializedException;
-import io.metersphere.jmeter.mock.util.regex.OrdinaryNode;
+import io.metersphere.jmeter.mock.util.regex.RegexProgram;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,6 +18,16 @@ import java.util.regex.Pattern;
  */
 public class RegexUtils {
 
+    /**
+     * 生成程序缓存的最大数量，超过后清空重新缓存
+     */
+    private static final int MAX_PROGRAM_CACHE_SIZE = 1024;
+
+    /**
+     * 正则表达式 -> 编译后的生成程序
+     */
+    private static final Map<String, RegexProgram> PROGRAM_CACHE = new ConcurrentHashMap<>();
+
     public static List<String> getMatcher(String source, String regex) {
         /*
             Pattern： 一个Pattern是一个正则表达式经编译后的表现模式。
@@ -34,10 +46,33 @@ public class RegexUtils {
     }
 
     public static String generator(String expression) {
+        return getProgram(expression).generate();
+    }
+
+    /**
+     * 获取正则表达式编译后的生成程序，同一个表达式只编译一次。
+     * 无法解析的表达式得到一个始终返回表达式本身的程序。
+     *
+     * @param expression 正则表达式
+     * @return 生成程序
+     */
+    public static RegexProgram getProgram(String expression) {
+        RegexProgram program = PROGRAM_CACHE.get(expression);
+        if (program == null) {
+            program = compileProgram(expression);
+            if (PROGRAM_CACHE.size() >= MAX_PROGRAM_CACHE_SIZE) {
+                PROGRAM_CACHE.clear();
+            }
+            PROGRAM_CACHE.putIfAbsent(expression, program);
+        }
+        return program;
+    }
+
+    private static RegexProgram compileProgram(String expression) {
         try {
-            return new OrdinaryNode(expression).random();
+            return RegexProgram.compile(expression);
         } catch (RegexpIllegalException | TypeNotMatchException | UninitializedException e) {
-            return expression;
+            return RegexProgram.constant(expression);
         }
     }
 }
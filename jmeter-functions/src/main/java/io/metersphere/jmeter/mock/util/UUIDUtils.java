@@ -0,0 +1,125 @@
+package io.metersphere.jmeter.mock.util;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * UUID生成工具<br>
+ * v4、v7与ULID都使用线程内的非加密随机数，直接格式化到预先分配好的字符数组中，多线程之间没有锁竞争。<br>
+ * 需要加密强度的随机数时使用{@link #secure()}，即{@link UUID#randomUUID()}。
+ */
+public final class UUIDUtils {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * ULID使用的Crockford Base32字符表
+     */
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private UUIDUtils() {
+    }
+
+    /**
+     * 根据版本生成
+     *
+     * @param version 4、7、ulid、secure，可以带v前缀，例如 v7
+     */
+    public static String generate(String version) {
+        String v = version.trim().toLowerCase();
+        if (v.startsWith("v")) {
+            v = v.substring(1);
+        }
+        switch (v) {
+            case "4":
+                return v4();
+            case "7":
+                return v7();
+            case "ulid":
+                return ulid();
+            case "secure":
+                return secure();
+            default:
+                throw new MockException("不支持的UUID版本：" + version);
+        }
+    }
+
+    /**
+     * 随机UUID（版本4）
+     */
+    public static String v4() {
+        RandomGenerator random = RandomSource.current();
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return format(msb, lsb);
+    }
+
+    /**
+     * 按时间排序的UUID（版本7）：48位毫秒时间戳 + 74位随机数
+     */
+    public static String v7() {
+        RandomGenerator random = RandomSource.current();
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return format(msb, lsb);
+    }
+
+    /**
+     * ULID：48位毫秒时间戳 + 80位随机数，26位Crockford Base32
+     */
+    public static String ulid() {
+        RandomGenerator random = RandomSource.current();
+        long time = System.currentTimeMillis();
+        long high = random.nextLong() & 0xFFFFL;
+        long low = random.nextLong();
+        char[] chars = new char[26];
+        //时间戳 10位，每位5bit，共50位（最高2位为0）
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = CROCKFORD[(int) (time & 0x1F)];
+            time >>>= 5;
+        }
+        //随机数 16位，共80位：high 16位 + low 64位
+        for (int i = 25; i >= 10; i--) {
+            chars[i] = CROCKFORD[(int) (low & 0x1F)];
+            low = (low >>> 5) | ((high & 0x1F) << 59);
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 使用加密强度随机数的UUID，即{@link UUID#randomUUID()}，多线程下会竞争同一个SecureRandom
+     */
+    public static String secure() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 将128位格式化为 8-4-4-4-12 的形式
+     */
+    private static String format(long msb, long lsb) {
+        char[] chars = new char[36];
+        hex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, msb, 4);
+        chars[18] = '-';
+        hex(chars, 19, lsb >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, lsb, 12);
+        return new String(chars);
+    }
+
+    /**
+     * 将value的低 digits*4 位以十六进制写入字符数组
+     */
+    private static void hex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package io.metersphere.jmeter.mock.util;
+
+import io.metersphere.jmeter.mock.exception.MockException;
+
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 不重复的随机值<br>
+ * 每种值对应一个取值区间，使用{@link IncrementSequence}为区间分配递增的序号，
+ * 再通过{@link KeyedPermutation}将序号置换为区间内的值。结果看起来是随机的，但在区间用完之前不会重复，
+ * 不需要保存已经生成过的值，也不需要加锁。<br>
+ * 密钥在每次运行时随机生成，区间用完时抛出{@link MockException}。
+ */
+public final class UniqueUtils {
+
+    /**
+     * 身份证号顺序码的数量，与{@link MockUtils#idCard()}一致只使用奇数（男性）
+     */
+    private static final int ID_SEQUENCE_COUNT = 500;
+
+    /**
+     * 本次运行的密钥，指定了随机数种子时与种子相同
+     */
+    private static volatile long runKey = RandomSource.seed() != null ? RandomSource.seed() : new SecureRandom().nextLong();
+
+    /**
+     * 区间名称 -> 区间
+     */
+    private static final Map<String, Domain> DOMAINS = new ConcurrentHashMap<>();
+
+    private UniqueUtils() {
+    }
+
+    /**
+     * 根据指令名称生成不重复的值
+     *
+     * @param directive 指令名称，例如：phoneNumber、@idCard、UUNUM、getNumber(8)
+     */
+    public static String generate(String directive) {
+        String name = directive.trim();
+        if (name.startsWith("@")) {
+            name = name.substring(1);
+        }
+        int open = name.indexOf('(');
+        if (open > 0 && name.endsWith(")")) {
+            String arg = name.substring(open + 1, name.length() - 1).trim();
+            try {
+                return generate(name.substring(0, open), Integer.valueOf(arg));
+            } catch (NumberFormatException e) {
+                throw new MockException("不支持唯一模式的指令：" + directive);
+            }
+        }
+        switch (name) {
+            case "phoneNumber":
+                return phoneNumber();
+            case "idCard":
+                return idCard();
+            case "UUNUM":
+                return UUNUM();
+            default:
+                throw new MockException("不支持唯一模式的指令：" + directive);
+        }
+    }
+
+    /**
+     * 根据指令名称与长度生成不重复的值，目前只支持getNumber
+     *
+     * @param directive 指令名称
+     * @param length    长度
+     */
+    public static String generate(String directive, Integer length) {
+        String name = directive.trim();
+        if (name.startsWith("@")) {
+            name = name.substring(1);
+        }
+        if ("getNumber".equals(name)) {
+            return getNumber(length);
+        }
+        throw new MockException("不支持唯一模式的指令：" + directive + "(" + length + ")");
+    }
+
+    /**
+     * 不重复的11位手机号码
+     */
+    public static String phoneNumber() {
+        long value = next("phoneNumber", 10_000_000_000L);
+        char[] chars = new char[11];
+        chars[0] = '1';
+        FormatUtils.writeDigits(chars, 1, 10, value);
+        return new String(chars);
+    }
+
+    /**
+     * 不重复的指定长度的数字，超过18位时，前面的部分随机生成，后18位不重复
+     *
+     * @param length 长度
+     */
+    public static String getNumber(Integer length) {
+        if (length == null || length <= 0) {
+            return "";
+        }
+        char[] chars = new char[length];
+        int uniqueDigits = Math.min(length, FormatUtils.MAX_LONG_DIGITS);
+        int prefix = length - uniqueDigits;
+        FormatUtils.randomDigits(chars, 0, prefix);
+        long value = next("getNumber(" + length + ")", FormatUtils.POWERS_OF_TEN[uniqueDigits]);
+        FormatUtils.writeDigits(chars, prefix, uniqueDigits, value);
+        return new String(chars);
+    }
+
+    /**
+     * 不重复的32位数字
+     */
+    public static String UUNUM() {
+        return getNumber(32);
+    }
+
+    /**
+     * 不重复的身份证号，生日在1年前至100年前之间
+     */
+    public static String idCard() {
+        Domain domain = domain("idCard", () -> {
+            LocalDate today = LocalDate.ofEpochDay(RandomSource.today());
+            long from = today.minusYears(100).toEpochDay();
+            long days = today.minusYears(1).toEpochDay() - from;
+            return new IdCardDomain(from, days);
+        });
+        IdCardDomain idCard = (IdCardDomain) domain;
+        long value = domain.next();
+        int sequence = (int) (value % ID_SEQUENCE_COUNT) * 2 + 1;
+        value /= ID_SEQUENCE_COUNT;
+        long day = value % idCard.days;
+        int city = (int) (value / idCard.days);
+        return IdentityGenerator.idCard(RandomUtils.getIdNoCity(city), idCard.fromDay + day, sequence);
+    }
+
+    /**
+     * 使用新的密钥重新开始，之前生成过的值可能再次出现
+     *
+     * @param key 密钥
+     */
+    public static void reset(long key) {
+        runKey = key;
+        for (String name : DOMAINS.keySet()) {
+            IncrementSequence.remove(sequenceName(name));
+        }
+        DOMAINS.clear();
+    }
+
+    /* —————————————————————— 区间 —————————————————————— */
+
+    private static long next(String name, long size) {
+        return domain(name, () -> new Domain(size)).next();
+    }
+
+    private static Domain domain(String name, Supplier<Domain> factory) {
+        Domain domain = DOMAINS.get(name);
+        if (domain == null) {
+            domain = DOMAINS.computeIfAbsent(name, k -> factory.get().init(k));
+        }
+        return domain;
+    }
+
+    private static String sequenceName(String domainName) {
+        return "unique:" + domainName;
+    }
+
+    /**
+     * 取值区间
+     */
+    private static class Domain {
+        private final long size;
+        private String name;
+        private KeyedPermutation permutation;
+        private IncrementSequence sequence;
+
+        Domain(long size) {
+            this.size = size;
+        }
+
+        Domain init(String name) {
+            this.name = name;
+            this.permutation = new KeyedPermutation(size, runKey ^ (name.hashCode() * 0x9E3779B97F4A7C15L));
+            this.sequence = IncrementSequence.get(sequenceName(name), 0, 1);
+            return this;
+        }
+
+        long next() {
+            long index = sequence.next();
+            if (index >= size) {
+                throw new MockException("不重复的取值已耗尽：" + name + "，共" + size + "个");
+            }
+            return permutation.permute(index);
+        }
+    }
+
+    /**
+     * 身份证号的取值区间：地区码 × 生日 × 顺序码
+     */
+    private static final class IdCardDomain extends Domain {
+        private final long fromDay;
+        private final long days;
+
+        IdCardDomain(long fromDay, long days) {
+            super(RandomUtils.getIdNoCityCount() * days * ID_SEQUENCE_COUNT);
+            this.fromDay = fromDay;
+            this.days = days;
+        }
+    }
+}
@@ -91,6 +91,28 @@ public abstract class BaseNode implements Node {
         return true;
     }
 
+    /**
+     * 编译为生成程序中的节点，需要在初始化之后调用
+     */
+    RegexProgram.Op compile() throws UninitializedException {
+        if (!initialized) {
+            throw new UninitializedException();
+        }
+        return compile(expression, expressionFragments);
+    }
+
+    RegexProgram.Op compile(String expression, List<String> expressionFragments) throws UninitializedException {
+        return RegexProgram.literal(expression);
+    }
+
+    static RegexProgram.Op[] compileChildren(List<Node> children) throws UninitializedException {
+        RegexProgram.Op[] ops = new RegexProgram.Op[children.size()];
+        for (int i = 0; i < ops.length; i++) {
+            ops[i] = ((BaseNode) children.get(i)).compile();
+        }
+        return ops;
+    }
+
     private List<String> spliceExpression(String expression) throws RegexpIllegalException {
         int l = 0;
         int r = expression.length();
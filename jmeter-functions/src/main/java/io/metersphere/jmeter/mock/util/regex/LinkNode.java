@@ -64,4 +64,9 @@ public class LinkNode extends BaseNode {
         }
         return value.toString();
     }
+
+    @Override
+    RegexProgram.Op compile(String expression, List<String> expressionFragments) throws UninitializedException {
+        return RegexProgram.sequence(compileChildren(children));
+    }
 }
@@ -4,10 +4,10 @@ package io.metersphere.jmeter.mock.util.regex;
 import io.metersphere.jmeter.mock.exception.RegexpIllegalException;
 import io.metersphere.jmeter.mock.exception.TypeNotMatchException;
 import io.metersphere.jmeter.mock.exception.UninitializedException;
+import io.metersphere.jmeter.mock.util.RandomSource;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 public class OptionalNode extends BaseNode {
 
@@ -51,6 +51,11 @@ public class OptionalNode extends BaseNode {
     @Override
     protected String random(String expression, List<String> expressionFragments)
             throws UninitializedException, RegexpIllegalException {
-        return children.get(new Random().nextInt(children.size())).random();
+        return children.get(RandomSource.current().nextInt(children.size())).random();
+    }
+
+    @Override
+    RegexProgram.Op compile(String expression, List<String> expressionFragments) throws UninitializedException {
+        return RegexProgram.alternation(compileChildren(children));
     }
 }
@@ -48,4 +48,12 @@ public class OrdinaryNode extends BaseNode {
         return proxyNode.random();
     }
 
+    @Override
+    RegexProgram.Op compile(String expression, List<String> expressionFragments) throws UninitializedException {
+        if (proxyNode == null) {
+            return RegexProgram.EMPTY;
+        }
+        return ((BaseNode) proxyNode).compile();
+    }
+
 }
@@ -0,0 +1,198 @@
+package io.metersphere.jmeter.mock.util.regex;
+
+import io.metersphere.jmeter.mock.exception.RegexpIllegalException;
+import io.metersphere.jmeter.mock.exception.TypeNotMatchException;
+import io.metersphere.jmeter.mock.exception.UninitializedException;
+import io.metersphere.jmeter.mock.util.RandomSource;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 编译后的正则生成程序<br>
+ * 由{@link OrdinaryNode}解析得到的节点树编译而来：字符区间被展开为字符表，重复次数的上下限预先计算好，
+ * 生成时所有节点向同一个线程内复用的缓冲区追加字符，除最终结果外不再创建对象。<br>
+ * 创建后不可变，可以在多个线程之间共享。
+ */
+public final class RegexProgram {
+
+    /**
+     * 每个线程复用的缓冲区
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    /**
+     * 缓冲区保留的最大容量，超过后释放，避免偶尔的长结果一直占用内存
+     */
+    private static final int MAX_BUFFER_CAPACITY = 4096;
+
+    /**
+     * 原始的正则表达式
+     */
+    private final String expression;
+
+    /**
+     * 程序的根节点
+     */
+    private final Op root;
+
+    /**
+     * 编译正则表达式
+     *
+     * @param expression 正则表达式
+     * @return 生成程序
+     */
+    public static RegexProgram compile(String expression)
+            throws RegexpIllegalException, TypeNotMatchException, UninitializedException {
+        return new RegexProgram(expression, new OrdinaryNode(expression).compile());
+    }
+
+    /**
+     * 创建一个始终返回指定值的程序，用于无法解析的表达式
+     */
+    public static RegexProgram constant(String value) {
+        return new RegexProgram(value, literal(value));
+    }
+
+    /**
+     * 生成一个匹配正则的随机字符串
+     */
+    public String generate() {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        root.emit(buffer, RandomSource.current());
+        String value = buffer.toString();
+        if (buffer.capacity() > MAX_BUFFER_CAPACITY) {
+            BUFFER.remove();
+        }
+        return value;
+    }
+
+    /**
+     * 将生成的随机字符串追加到指定的StringBuilder中
+     */
+    public void generate(StringBuilder out) {
+        root.emit(out, RandomSource.current());
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    private RegexProgram(String expression, Op root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+
+    /* —————————————————— 程序节点 —————————————————— */
+
+    /**
+     * 程序节点
+     */
+    interface Op {
+        /**
+         * 将生成的字符追加到缓冲区
+         */
+        void emit(StringBuilder out, RandomGenerator random);
+    }
+
+    /**
+     * 空节点
+     */
+    static final Op EMPTY = (out, random) -> {
+    };
+
+    /**
+     * 字面量
+     */
+    static Op literal(String value) {
+        if (value.isEmpty()) {
+            return EMPTY;
+        }
+        if (value.length() == 1) {
+            char c = value.charAt(0);
+            return (out, random) -> out.append(c);
+        }
+        return (out, random) -> out.append(value);
+    }
+
+    /**
+     * 字符区间，区间按照 [start0, end0, start1, end1 ...] 的顺序排列。
+     * 重叠的区间会保留重复字符，与逐个区间计数的概率一致。
+     */
+    static Op charClass(char[] ranges) {
+        int count = 0;
+        for (int i = 0; i + 1 < ranges.length; i += 2) {
+            count += ranges[i + 1] + 1 - ranges[i];
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        char[] table = new char[count];
+        int index = 0;
+        for (int i = 0; i + 1 < ranges.length; i += 2) {
+            for (int c = ranges[i]; c <= ranges[i + 1]; c++) {
+                table[index++] = (char) c;
+            }
+        }
+        if (table.length == 1) {
+            return literal(String.valueOf(table[0]));
+        }
+        return (out, random) -> out.append(table[random.nextInt(table.length)]);
+    }
+
+    /**
+     * 顺序拼接
+     */
+    static Op sequence(Op[] ops) {
+        if (ops.length == 0) {
+            return EMPTY;
+        }
+        if (ops.length == 1) {
+            return ops[0];
+        }
+        return (out, random) -> {
+            for (Op op : ops) {
+                op.emit(out, random);
+            }
+        };
+    }
+
+    /**
+     * 或语法，等概率选择一个分支
+     */
+    static Op alternation(Op[] ops) {
+        if (ops.length == 1) {
+            return ops[0];
+        }
+        return (out, random) -> ops[random.nextInt(ops.length)].emit(out, random);
+    }
+
+    /**
+     * 重复，次数在[min, max]之间
+     */
+    static Op repeat(Op op, int min, int max) {
+        if (min == max) {
+            if (min == 1) {
+                return op;
+            }
+            return (out, random) -> {
+                for (int i = 0; i < min; i++) {
+                    op.emit(out, random);
+                }
+            };
+        }
+        int bound = max - min + 1;
+        return (out, random) -> {
+            int times = min + random.nextInt(bound);
+            for (int i = 0; i < times; i++) {
+                op.emit(out, random);
+            }
+        };
+    }
+}
@@ -4,10 +4,10 @@ package io.metersphere.jmeter.mock.util.regex;
 import io.metersphere.jmeter.mock.exception.RegexpIllegalException;
 import io.metersphere.jmeter.mock.exception.TypeNotMatchException;
 import io.metersphere.jmeter.mock.exception.UninitializedException;
+import io.metersphere.jmeter.mock.util.RandomSource;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 public class RepeatNode extends BaseNode {
 
@@ -64,11 +64,17 @@ public class RepeatNode extends BaseNode {
     @Override
     protected String random(String expression, List<String> expressionFragments)
             throws RegexpIllegalException, UninitializedException {
-        int repeat = new Random().nextInt(maxRepeat - minRepeat + 1) + minRepeat;
+        int repeat = RandomSource.current().nextInt(maxRepeat - minRepeat + 1) + minRepeat;
         StringBuilder value = new StringBuilder();
         while (repeat-- > 0) {
             value.append(node.random());
         }
         return value.toString();
     }
+
+    @Override
+    RegexProgram.Op compile(String expression, List<String> expressionFragments) throws UninitializedException {
+        BaseNode single = (BaseNode) node;
+        return RegexProgram.repeat(single.compile(), minRepeat, maxRepeat);
+    }
 }
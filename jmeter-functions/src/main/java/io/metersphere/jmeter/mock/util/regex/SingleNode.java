@@ -3,10 +3,10 @@ package io.metersphere.jmeter.mock.util.regex;
 import io.metersphere.jmeter.mock.exception.RegexpIllegalException;
 import io.metersphere.jmeter.mock.exception.TypeNotMatchException;
 import io.metersphere.jmeter.mock.exception.UninitializedException;
+import io.metersphere.jmeter.mock.util.RandomSource;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 public class SingleNode extends BaseNode {
 
@@ -103,18 +103,35 @@ public class SingleNode extends BaseNode {
             return node.random();
         }
         if (intervals != null && !intervals.isEmpty()) {
-            Character value = randomCharFromInterval(intervals.toArray(new Interval[0]));
+            Character value = randomCharFromInterval(intervals);
             return value == null ? "" : value.toString();
         }
         return expression;
     }
 
-    private Character randomCharFromInterval(Interval... intervals) {
+    @Override
+    RegexProgram.Op compile(String expression, List<String> expressionFragments) throws UninitializedException {
+        if (node != null) {
+            BaseNode group = (BaseNode) node;
+            return group.compile();
+        }
+        if (intervals != null && !intervals.isEmpty()) {
+            char[] ranges = new char[intervals.size() * 2];
+            for (int i = 0; i < intervals.size(); i++) {
+                ranges[i * 2] = intervals.get(i).start;
+                ranges[i * 2 + 1] = intervals.get(i).end;
+            }
+            return RegexProgram.charClass(ranges);
+        }
+        return RegexProgram.literal(expression);
+    }
+
+    private Character randomCharFromInterval(List<Interval> intervals) {
         int count = 0;
         for (Interval interval : intervals) {
             count += interval.end + 1 - interval.start;
         }
-        int randomValue = new Random().nextInt(count);
+        int randomValue = RandomSource.current().nextInt(count);
         for (Interval interval : intervals) {
             if (randomValue < interval.end + 1 - interval.start) {
                 return (char) (interval.start + randomValue);
@@ -0,0 +1,48 @@
+import io.metersphere.jmeter.mock.function.HashFun;
+
+import java.nio.charset.StandardCharsets;
+
+public class HashTest {
+    private static final String FOX = "The quick brown fox jumps over the lazy dog";
+
+    private static int failed = 0;
+
+    public static void main(String[] args) {
+        // xxHash64，种子为0
+        check("xxh64(\"\")", "ef46db3751d8e999", Long.toHexString(xxHash64("")));
+        check("xxh64(\"abc\")", "44bc2cf5ad770999", Long.toHexString(xxHash64("abc")));
+        check("xxh64(fox)", "0b242d361fda71bc", String.format("%016x", xxHash64(FOX)));
+        check("@string|xxhash64", Long.toUnsignedString(0x44bc2cf5ad770999L), HashFun.xxHash64("").apply("abc"));
+
+        // MurmurHash3 x86_32
+        check("murmur3_32(\"hello\")", "248bfa47", Integer.toHexString(murmur3("hello", 0)));
+        check("murmur3_32(\"\", 1)", "514e28b7", Integer.toHexString(murmur3("", 1)));
+        check("murmur3_32(fox)", "2e4ff723", Integer.toHexString(murmur3(FOX, 0)));
+        check("@string|murmur3", Long.toString(0x248bfa47L), HashFun.murmur3("").apply("hello"));
+
+        // CRC32C
+        check("crc32c(\"123456789\")", Long.toString(0xe3069283L), HashFun.crc32c().apply("123456789"));
+        check("crc32c(fox)", Long.toString(0x22620404L), HashFun.crc32c().apply(FOX));
+
+        System.out.println(failed == 0 ? "all hash checks passed" : failed + " hash checks failed");
+    }
+
+    private static long xxHash64(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return HashFun.xxHash64(bytes, 0, bytes.length, 0);
+    }
+
+    private static int murmur3(String value, int seed) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return HashFun.murmur3(bytes, 0, bytes.length, seed);
+    }
+
+    private static void check(String name, String expected, String actual) {
+        if (expected.equals(actual)) {
+            System.out.println(name + " = " + actual);
+        } else {
+            failed++;
+            System.out.println(name + " = " + actual + "，期望 " + expected);
+        }
+    }
+}